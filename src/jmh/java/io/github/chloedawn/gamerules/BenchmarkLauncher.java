@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Runs JMH from within a Fabric launch of the dedicated server, so that the library's mixins are
+ * applied to the game classes that the benchmarks touch. Benchmarks run unforked in the launched
+ * JVM, and the server itself is never started
+ *
+ * @author Chloe Dawn
+ */
+public final class BenchmarkLauncher {
+  /**
+   * The system property holding the path of a file of JMH arguments, one per line
+   */
+  public static final String ARGUMENTS = "gamerules.jmh.arguments";
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private BenchmarkLauncher() {
+  }
+
+  /**
+   * Runs JMH with the arguments read from the given file and exits the JVM
+   *
+   * @param arguments The path of the file of JMH arguments
+   */
+  public static void launch(final String arguments) {
+    int status = 0;
+    try {
+      final String[] args = Files.readAllLines(Paths.get(arguments), StandardCharsets.UTF_8).toArray(new String[0]);
+      new Runner(new CommandLineOptions(args)).run();
+    } catch (final IOException | CommandLineOptionException | RunnerException e) {
+      LOGGER.error("Failed to run benchmarks", e);
+      status = 1;
+    }
+    System.exit(status);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.world.GameRules.BooleanRule;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.RuleKey;
+
+/**
+ * Rules shared by benchmarks, registered once per benchmark JVM
+ *
+ * @author Chloe Dawn
+ */
+final class BenchmarkRules {
+  static final RuleKey<BooleanRule> BOOLEAN = Rules.createBooleanRule("benchmarkBoolean");
+  static final RuleKey<IntRule> INT = Rules.createIntRule("benchmarkInt");
+  static final RuleKey<DoubleRule> DOUBLE = Rules.createDoubleRule("benchmarkDouble", 0.5);
+  static final RuleKey<EnumRule<Mode>> ENUM = Rules.createEnumRule("benchmarkEnum", Mode.class);
+  static final RuleKey<FloatRule> FLOAT = Rules.createFloatRule("benchmarkFloat", 0.5F);
+  static final RuleKey<StringRule> STRING = Rules.createStringRule("benchmarkString", "benchmark");
+  static final RuleKey<LongRule> LONG = Rules.createLongRule("benchmarkLong", 0L);
+  static final RuleKey<BoundedIntRule> BOUNDED_INT = Rules.createBoundedIntRule("benchmarkBoundedInt", 0, 10, 5);
+  static final RuleKey<BoundedDoubleRule> BOUNDED_DOUBLE = Rules.createBoundedDoubleRule("benchmarkBoundedDouble", 0.0, 10.0, 5.0);
+  static final RuleKey<BoundedFloatRule> BOUNDED_FLOAT = Rules.createBoundedFloatRule("benchmarkBoundedFloat", 0.0F, 10.0F, 5.0F);
+
+  private BenchmarkRules() {
+  }
+
+  enum Mode {
+    FIRST, SECOND, THIRD
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.RuleKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for dispatching a change to a varying number of registered callbacks
+ *
+ * @author Chloe Dawn
+ * @see RuleChangeCallbacks#call
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CallbackDispatchBenchmark {
+  @Param({ "0", "1", "16", "256" })
+  public int callbackCount;
+
+  private RuleChangeCallbacks<DoubleRule> callbacks;
+  private DoubleRule rule;
+  private double sink;
+
+  @Setup
+  public void registerCallbacks() {
+    final RuleKey<DoubleRule> key = Rules.createDoubleRule("benchmarkDispatch" + this.callbackCount);
+    for (int i = 0; i < this.callbackCount; ++i) {
+      Rules.observe(key, (server, rule) -> this.sink += rule.get());
+    }
+    this.callbacks = RuleChangeCallbacks.of(GameRulesAccessor.getRuleTypes().get(key));
+    this.rule = new GameRules().get(key);
+  }
+
+  @Benchmark
+  public double call() {
+    this.callbacks.call(null, this.rule);
+    return this.sink;
+  }
+}
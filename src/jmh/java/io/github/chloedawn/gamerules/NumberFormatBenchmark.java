@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the platform's {@code double} and {@code float} formatting
+ * and parsing with {@link Numbers}, over values typical of game rules
+ *
+ * @author Chloe Dawn
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NumberFormatBenchmark {
+  private static final double[] DOUBLES = { 0.1, 1.0, 2.5, 0.75, 20.0, 0.001, 1234.5678, 0.3333333333333333 };
+  private static final float[] FLOATS = { 0.1F, 1.0F, 2.5F, 0.75F, 20.0F, 0.001F, 1234.5677F, 0.33333334F };
+  private static final String[] DOUBLE_STRINGS = new String[DOUBLES.length];
+  private static final String[] FLOAT_STRINGS = new String[FLOATS.length];
+
+  static {
+    for (int i = 0; i < DOUBLES.length; ++i) {
+      DOUBLE_STRINGS[i] = Double.toString(DOUBLES[i]);
+      FLOAT_STRINGS[i] = Float.toString(FLOATS[i]);
+    }
+  }
+
+  private int index;
+
+  private int next() {
+    return this.index = (this.index + 1) & 7;
+  }
+
+  @Benchmark
+  public String formatDoubleJdk() {
+    return Double.toString(DOUBLES[this.next()]);
+  }
+
+  @Benchmark
+  public String formatDouble() {
+    return Numbers.formatDouble(DOUBLES[this.next()]);
+  }
+
+  @Benchmark
+  public String formatFloatJdk() {
+    return Float.toString(FLOATS[this.next()]);
+  }
+
+  @Benchmark
+  public String formatFloat() {
+    return Numbers.formatFloat(FLOATS[this.next()]);
+  }
+
+  @Benchmark
+  public double parseDoubleJdk() {
+    return Double.parseDouble(DOUBLE_STRINGS[this.next()]);
+  }
+
+  @Benchmark
+  public double parseDouble() {
+    return Numbers.parseDouble(DOUBLE_STRINGS[this.next()]);
+  }
+
+  @Benchmark
+  public float parseFloatJdk() {
+    return Float.parseFloat(FLOAT_STRINGS[this.next()]);
+  }
+
+  @Benchmark
+  public float parseFloat() {
+    return Numbers.parseFloat(FLOAT_STRINGS[this.next()]);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.BenchmarkRules.Mode;
+import net.minecraft.world.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the typed getters and setters of every rule type. Setters alternate
+ * between two values so that every invocation is an actual change
+ *
+ * @author Chloe Dawn
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RuleAccessBenchmark {
+  private GameRules rules;
+  private boolean flip;
+
+  @Setup
+  public void createRules() {
+    this.rules = new GameRules();
+  }
+
+  @Benchmark
+  public boolean getBooleanVanilla() {
+    return this.rules.getBoolean(BenchmarkRules.BOOLEAN);
+  }
+
+  @Benchmark
+  public boolean getBoolean() {
+    return Rules.rule(this.rules, BenchmarkRules.BOOLEAN).get();
+  }
+
+  @Benchmark
+  public int getIntVanilla() {
+    return this.rules.getInt(BenchmarkRules.INT);
+  }
+
+  @Benchmark
+  public int getInt() {
+    return Rules.rule(this.rules, BenchmarkRules.INT).get();
+  }
+
+  @Benchmark
+  public double getDouble() {
+    return Rules.getDouble(this.rules, BenchmarkRules.DOUBLE);
+  }
+
+  @Benchmark
+  public Mode getEnum() {
+    return Rules.getEnum(this.rules, BenchmarkRules.ENUM);
+  }
+
+  @Benchmark
+  public float getFloat() {
+    return Rules.getFloat(this.rules, BenchmarkRules.FLOAT);
+  }
+
+  @Benchmark
+  public String getString() {
+    return Rules.getString(this.rules, BenchmarkRules.STRING);
+  }
+
+  @Benchmark
+  public long getLong() {
+    return Rules.getLong(this.rules, BenchmarkRules.LONG);
+  }
+
+  @Benchmark
+  public int getBoundedInt() {
+    return Rules.getBoundedInt(this.rules, BenchmarkRules.BOUNDED_INT);
+  }
+
+  @Benchmark
+  public double getBoundedDouble() {
+    return Rules.getBoundedDouble(this.rules, BenchmarkRules.BOUNDED_DOUBLE);
+  }
+
+  @Benchmark
+  public float getBoundedFloat() {
+    return Rules.getBoundedFloat(this.rules, BenchmarkRules.BOUNDED_FLOAT);
+  }
+
+  @Benchmark
+  public void setBoolean() {
+    Rules.setBoolean(this.rules, BenchmarkRules.BOOLEAN, this.flip = !this.flip);
+  }
+
+  @Benchmark
+  public void setInt() {
+    Rules.setInt(this.rules, BenchmarkRules.INT, (this.flip = !this.flip) ? 1 : 2);
+  }
+
+  @Benchmark
+  public void setDouble() {
+    Rules.setDouble(this.rules, BenchmarkRules.DOUBLE, (this.flip = !this.flip) ? 1.0 : 2.0);
+  }
+
+  @Benchmark
+  public void setEnum() {
+    Rules.setEnum(this.rules, BenchmarkRules.ENUM, (this.flip = !this.flip) ? Mode.FIRST : Mode.SECOND);
+  }
+
+  @Benchmark
+  public void setFloat() {
+    Rules.setFloat(this.rules, BenchmarkRules.FLOAT, (this.flip = !this.flip) ? 1.0F : 2.0F);
+  }
+
+  @Benchmark
+  public void setString() {
+    Rules.setString(this.rules, BenchmarkRules.STRING, (this.flip = !this.flip) ? "first" : "second");
+  }
+
+  @Benchmark
+  public void setLong() {
+    Rules.setLong(this.rules, BenchmarkRules.LONG, (this.flip = !this.flip) ? 1L : 2L);
+  }
+
+  @Benchmark
+  public void setBoundedInt() {
+    Rules.setBoundedInt(this.rules, BenchmarkRules.BOUNDED_INT, (this.flip = !this.flip) ? 1 : 2);
+  }
+
+  @Benchmark
+  public void setBoundedDouble() {
+    Rules.setBoundedDouble(this.rules, BenchmarkRules.BOUNDED_DOUBLE, (this.flip = !this.flip) ? 1.0 : 2.0);
+  }
+
+  @Benchmark
+  public void setBoundedFloat() {
+    Rules.setBoundedFloat(this.rules, BenchmarkRules.BOUNDED_FLOAT, (this.flip = !this.flip) ? 1.0F : 2.0F);
+  }
+
+  @Benchmark
+  public void setDoubleUnchanged() {
+    Rules.setDouble(this.rules, BenchmarkRules.DOUBLE, 0.5);
+  }
+
+  @Benchmark
+  public boolean delegatedBoolean() {
+    final boolean value = DelegatedRulesKt.getBenchmarkBoolean(this.rules);
+    DelegatedRulesKt.setBenchmarkBoolean(this.rules, this.flip = !this.flip);
+    return value;
+  }
+
+  @Benchmark
+  public int delegatedInt() {
+    final int value = DelegatedRulesKt.getBenchmarkInt(this.rules);
+    DelegatedRulesKt.setBenchmarkInt(this.rules, (this.flip = !this.flip) ? 1 : 2);
+    return value;
+  }
+
+  @Benchmark
+  public long delegatedLong() {
+    final long value = DelegatedRulesKt.getBenchmarkLong(this.rules);
+    DelegatedRulesKt.setBenchmarkLong(this.rules, (this.flip = !this.flip) ? 1L : 2L);
+    return value;
+  }
+
+  @Benchmark
+  public double delegatedDouble() {
+    final double value = DelegatedRulesKt.getBenchmarkDouble(this.rules);
+    DelegatedRulesKt.setBenchmarkDouble(this.rules, (this.flip = !this.flip) ? 1.0 : 2.0);
+    return value;
+  }
+
+  @Benchmark
+  public Mode delegatedEnum() {
+    final Mode value = DelegatedRulesKt.getBenchmarkEnum(this.rules);
+    DelegatedRulesKt.setBenchmarkEnum(this.rules, (this.flip = !this.flip) ? Mode.FIRST : Mode.SECOND);
+    return value;
+  }
+
+  @Benchmark
+  public float delegatedFloat() {
+    final float value = DelegatedRulesKt.getBenchmarkFloat(this.rules);
+    DelegatedRulesKt.setBenchmarkFloat(this.rules, (this.flip = !this.flip) ? 1.0F : 2.0F);
+    return value;
+  }
+
+  @Benchmark
+  public String delegatedString() {
+    final String value = DelegatedRulesKt.getBenchmarkString(this.rules);
+    DelegatedRulesKt.setBenchmarkString(this.rules, (this.flip = !this.flip) ? "first" : "second");
+    return value;
+  }
+
+  @Benchmark
+  public int delegatedBoundedInt() {
+    final int value = DelegatedRulesKt.getBenchmarkBoundedInt(this.rules);
+    DelegatedRulesKt.setBenchmarkBoundedInt(this.rules, (this.flip = !this.flip) ? 1 : 2);
+    return value;
+  }
+
+  @Benchmark
+  public double delegatedBoundedDouble() {
+    final double value = DelegatedRulesKt.getBenchmarkBoundedDouble(this.rules);
+    DelegatedRulesKt.setBenchmarkBoundedDouble(this.rules, (this.flip = !this.flip) ? 1.0 : 2.0);
+    return value;
+  }
+
+  @Benchmark
+  public float delegatedBoundedFloat() {
+    final float value = DelegatedRulesKt.getBenchmarkBoundedFloat(this.rules);
+    DelegatedRulesKt.setBenchmarkBoundedFloat(this.rules, (this.flip = !this.flip) ? 1.0F : 2.0F);
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.RuleKey;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for looking up rule keys by name with a varying number of registered rules
+ *
+ * @author Chloe Dawn
+ * @see Rules#find(String)
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RuleLookupBenchmark {
+  @Param({ "10", "100", "1000", "10000" })
+  public int ruleCount;
+
+  private String name = "";
+
+  @Setup
+  public void registerRules() {
+    for (int i = 0; i < this.ruleCount; ++i) {
+      final String name = "benchmarkLookup" + i;
+      if (Rules.findOrNull(name) == null) {
+        Rules.createIntRule(name, i);
+      }
+    }
+    this.name = new String("benchmarkLookup" + this.ruleCount / 2);
+  }
+
+  @Benchmark
+  public Optional<RuleKey<?>> find() {
+    return Rules.find(this.name);
+  }
+
+  @Benchmark
+  public @Nullable RuleKey<?> findOrNull() {
+    return Rules.findOrNull(this.name);
+  }
+
+  @Benchmark
+  public @Nullable RuleKey<?> findOrNullMissing() {
+    return Rules.findOrNull("benchmarkMissing");
+  }
+
+  @Benchmark
+  public RuleKey<?> get() {
+    return Rules.get(this.name);
+  }
+
+  @Benchmark
+  public RuleKey<IntRule> getUnchecked() {
+    return Rules.getUnchecked(this.name);
+  }
+}
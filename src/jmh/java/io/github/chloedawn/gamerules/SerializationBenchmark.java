@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the string round trip of each rule type, and for saving and
+ * loading a complete set of rules, either unchanged or with a single rule changed
+ *
+ * @author Chloe Dawn
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+  private GameRules rules;
+  private CompoundTag tag;
+
+  @Setup
+  public void createRules() {
+    this.rules = new GameRules();
+    Rules.setDouble(this.rules, BenchmarkRules.DOUBLE, 0.1);
+    Rules.setFloat(this.rules, BenchmarkRules.FLOAT, 0.1F);
+    this.tag = this.rules.toNbt();
+  }
+
+  @Benchmark
+  public double doubleRoundTrip() {
+    final DoubleRule rule = this.rules.get(BenchmarkRules.DOUBLE);
+    rule.deserialize(rule.serialize());
+    return rule.get();
+  }
+
+  @Benchmark
+  public BenchmarkRules.Mode enumRoundTrip() {
+    final EnumRule<BenchmarkRules.Mode> rule = this.rules.get(BenchmarkRules.ENUM);
+    rule.deserialize(rule.serialize());
+    return rule.get();
+  }
+
+  @Benchmark
+  public float floatRoundTrip() {
+    final FloatRule rule = this.rules.get(BenchmarkRules.FLOAT);
+    rule.deserialize(rule.serialize());
+    return rule.get();
+  }
+
+  @Benchmark
+  public String stringRoundTrip() {
+    final StringRule rule = this.rules.get(BenchmarkRules.STRING);
+    rule.deserialize(rule.serialize());
+    return rule.get();
+  }
+
+  @Benchmark
+  public CompoundTag toNbt() {
+    return this.rules.toNbt();
+  }
+
+  @Benchmark
+  public CompoundTag toNbtAfterChange() {
+    final DoubleRule rule = this.rules.get(BenchmarkRules.DOUBLE);
+    rule.set(-rule.get(), null);
+    return this.rules.toNbt();
+  }
+
+  @Benchmark
+  public GameRules load() {
+    this.rules.load(this.tag);
+    return this.rules;
+  }
+}
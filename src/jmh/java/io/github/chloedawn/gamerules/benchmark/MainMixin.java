@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.benchmark;
+
+import io.github.chloedawn.gamerules.BenchmarkLauncher;
+import net.minecraft.server.Main;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin class for {@link Main}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(Main.class)
+abstract class MainMixin {
+  /**
+   * Injects into {@link Main#main(String[])} before the server is set up, and runs
+   * the benchmarks instead if the benchmark arguments property has been set
+   *
+   * @param args The program arguments
+   * @param ci The callback information
+   * @see BenchmarkLauncher#launch(String)
+   */
+  @Inject(method = "main", at = @At("HEAD"), remap = false)
+  private static void runBenchmarks(final String[] args, final CallbackInfo ci) {
+    final @Nullable String arguments = System.getProperty(BenchmarkLauncher.ARGUMENTS);
+    if (arguments != null) {
+      BenchmarkLauncher.launch(arguments);
+    }
+  }
+}
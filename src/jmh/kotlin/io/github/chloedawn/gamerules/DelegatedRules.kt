@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules
+
+import net.minecraft.world.GameRules
+
+/*
+ * Delegated properties for benchmarks, one for each rule type, as the delegate operators
+ * are not visible to Java
+ */
+
+internal var GameRules.benchmarkBoolean: Boolean by BenchmarkRules.BOOLEAN
+internal var GameRules.benchmarkInt: Int by BenchmarkRules.INT
+internal var GameRules.benchmarkLong: Long by BenchmarkRules.LONG
+internal var GameRules.benchmarkDouble: Double by BenchmarkRules.DOUBLE
+internal var GameRules.benchmarkEnum: BenchmarkRules.Mode by BenchmarkRules.ENUM
+internal var GameRules.benchmarkFloat: Float by BenchmarkRules.FLOAT
+internal var GameRules.benchmarkString: String by BenchmarkRules.STRING
+internal var GameRules.benchmarkBoundedInt: Int by BenchmarkRules.BOUNDED_INT
+internal var GameRules.benchmarkBoundedDouble: Double by BenchmarkRules.BOUNDED_DOUBLE
+internal var GameRules.benchmarkBoundedFloat: Float by BenchmarkRules.BOUNDED_FLOAT
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Rule} implementation for finite {@code double} values within an inclusive range. Values
+ * are clamped to the range once when written, so readers never need to clamp them. Command
+ * arguments are bounded to the same range
+ *
+ * @author Chloe Dawn
+ * @see Rules#createBoundedDoubleRule
+ * @since 0.1.0
+ */
+public final class BoundedDoubleRule extends Rule<BoundedDoubleRule> {
+  private final double min;
+  private final double max;
+  private double value;
+  private double previousValue;
+
+  @Contract(pure = true)
+  private BoundedDoubleRule(final RuleType<BoundedDoubleRule> type, final double min, final double max, final double initialValue) {
+    super(type);
+    this.min = min;
+    this.max = max;
+    this.value = initialValue;
+  }
+
+  @Contract("_, _, _, _ -> new")
+  static RuleType<BoundedDoubleRule> create(final double min, final double max, final double initialValue, final BiConsumer<MinecraftServer, BoundedDoubleRule> changeCallback) {
+    Preconditions.checkArgument(Double.isFinite(min) && Double.isFinite(max), "Bounds must be numbers [%s, %s]", min, max);
+    Preconditions.checkArgument(min <= max, "Minimum %s is greater than maximum %s", min, max);
+    Preconditions.checkArgument((initialValue >= min) && (initialValue <= max), "Initial value %s is out of bounds [%s, %s]", initialValue, min, max);
+    return Rules.type("bounded double", () -> DoubleArgumentType.doubleArg(min, max), type -> new BoundedDoubleRule(type, min, max, initialValue), changeCallback);
+  }
+
+  @Contract(pure = true)
+  public double get() {
+    return this.value;
+  }
+
+  /**
+   * Gets the lower bound of this rule
+   *
+   * @return The minimum value, inclusive
+   */
+  @Contract(pure = true)
+  public double min() {
+    return this.min;
+  }
+
+  /**
+   * Gets the upper bound of this rule
+   *
+   * @return The maximum value, inclusive
+   */
+  @Contract(pure = true)
+  public double max() {
+    return this.max;
+  }
+
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  double getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write, used when a
+   * transaction reports the value held before all of its writes
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final double value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, clamped to the bounds of this rule, invoking change
+   * callbacks only if the clamped value is not bitwise equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   */
+  @Contract(mutates = "this")
+  public void set(final double value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final double value, final @Nullable MinecraftServer server) {
+    Preconditions.checkArgument(Double.isFinite(value), "Value must be a number %s", value);
+    final double clamped = this.clamp(value);
+    if (Double.doubleToLongBits(this.value) == Double.doubleToLongBits(clamped)) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = clamped;
+    this.changed(server);
+    return true;
+  }
+
+  @Contract(pure = true)
+  private double clamp(final double value) {
+    return Math.max(this.min, Math.min(this.max, value));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
+    this.previousValue = this.value;
+    this.value = this.clamp(DoubleArgumentType.getDouble(context, name));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void deserialize(final String string) {
+    this.read(DoubleRule.parseDouble(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, clamping it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final double value) {
+    this.previousValue = this.value;
+    this.value = this.clamp(Double.isFinite(value) ? value : 0.0);
+  }
+
+  @Override
+  protected String serialize() {
+    return Numbers.formatDouble(this.value);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int getCommandResult() {
+    return Double.compare(this.value, 0.0);
+  }
+
+  @Override
+  @Contract(pure = true)
+  protected BoundedDoubleRule getThis() {
+    return this;
+  }
+}
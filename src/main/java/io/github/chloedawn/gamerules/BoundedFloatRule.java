@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Rule} implementation for finite {@code float} values within an inclusive range. Values
+ * are clamped to the range once when written, so readers never need to clamp them. Command
+ * arguments are bounded to the same range
+ *
+ * @author Chloe Dawn
+ * @see Rules#createBoundedFloatRule
+ * @since 0.1.0
+ */
+public final class BoundedFloatRule extends Rule<BoundedFloatRule> {
+  private final float min;
+  private final float max;
+  private float value;
+  private float previousValue;
+
+  @Contract(pure = true)
+  private BoundedFloatRule(final RuleType<BoundedFloatRule> type, final float min, final float max, final float initialValue) {
+    super(type);
+    this.min = min;
+    this.max = max;
+    this.value = initialValue;
+  }
+
+  @Contract("_, _, _, _ -> new")
+  static RuleType<BoundedFloatRule> create(final float min, final float max, final float initialValue, final BiConsumer<MinecraftServer, BoundedFloatRule> changeCallback) {
+    Preconditions.checkArgument(Float.isFinite(min) && Float.isFinite(max), "Bounds must be numbers [%s, %s]", min, max);
+    Preconditions.checkArgument(min <= max, "Minimum %s is greater than maximum %s", min, max);
+    Preconditions.checkArgument((initialValue >= min) && (initialValue <= max), "Initial value %s is out of bounds [%s, %s]", initialValue, min, max);
+    return Rules.type("bounded float", () -> FloatArgumentType.floatArg(min, max), type -> new BoundedFloatRule(type, min, max, initialValue), changeCallback);
+  }
+
+  @Contract(pure = true)
+  public float get() {
+    return this.value;
+  }
+
+  /**
+   * Gets the lower bound of this rule
+   *
+   * @return The minimum value, inclusive
+   */
+  @Contract(pure = true)
+  public float min() {
+    return this.min;
+  }
+
+  /**
+   * Gets the upper bound of this rule
+   *
+   * @return The maximum value, inclusive
+   */
+  @Contract(pure = true)
+  public float max() {
+    return this.max;
+  }
+
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  float getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write, used when a
+   * transaction reports the value held before all of its writes
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final float value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, clamped to the bounds of this rule, invoking change
+   * callbacks only if the clamped value is not bitwise equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   */
+  @Contract(mutates = "this")
+  public void set(final float value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final float value, final @Nullable MinecraftServer server) {
+    Preconditions.checkArgument(Float.isFinite(value), "Value must be a number %s", value);
+    final float clamped = this.clamp(value);
+    if (Float.floatToIntBits(this.value) == Float.floatToIntBits(clamped)) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = clamped;
+    this.changed(server);
+    return true;
+  }
+
+  @Contract(pure = true)
+  private float clamp(final float value) {
+    return Math.max(this.min, Math.min(this.max, value));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
+    this.previousValue = this.value;
+    this.value = this.clamp(FloatArgumentType.getFloat(context, name));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void deserialize(final String string) {
+    this.read(FloatRule.parseFloat(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, clamping it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final float value) {
+    this.previousValue = this.value;
+    this.value = this.clamp(Float.isFinite(value) ? value : 0.0F);
+  }
+
+  @Override
+  protected String serialize() {
+    return Numbers.formatFloat(this.value);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int getCommandResult() {
+    return Float.compare(this.value, 0.0F);
+  }
+
+  @Override
+  @Contract(pure = true)
+  protected BoundedFloatRule getThis() {
+    return this;
+  }
+}
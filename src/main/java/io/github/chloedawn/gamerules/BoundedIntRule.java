@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Rule} implementation for {@code int} values within an inclusive range. Values
+ * are clamped to the range once when written, so readers never need to clamp them. Command
+ * arguments are bounded to the same range
+ *
+ * @author Chloe Dawn
+ * @see Rules#createBoundedIntRule
+ * @since 0.1.0
+ */
+public final class BoundedIntRule extends Rule<BoundedIntRule> {
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private final int min;
+  private final int max;
+  private int value;
+  private int previousValue;
+
+  @Contract(pure = true)
+  private BoundedIntRule(final RuleType<BoundedIntRule> type, final int min, final int max, final int initialValue) {
+    super(type);
+    this.min = min;
+    this.max = max;
+    this.value = initialValue;
+  }
+
+  @Contract("_, _, _, _ -> new")
+  static RuleType<BoundedIntRule> create(final int min, final int max, final int initialValue, final BiConsumer<MinecraftServer, BoundedIntRule> changeCallback) {
+    Preconditions.checkArgument(min <= max, "Minimum %s is greater than maximum %s", min, max);
+    Preconditions.checkArgument((initialValue >= min) && (initialValue <= max), "Initial value %s is out of bounds [%s, %s]", initialValue, min, max);
+    return Rules.type("bounded int", () -> IntegerArgumentType.integer(min, max), type -> new BoundedIntRule(type, min, max, initialValue), changeCallback);
+  }
+
+  private static int parseInt(final String string) {
+    if (!string.isEmpty()) {
+      try {
+        return Integer.parseInt(string);
+      } catch (final NumberFormatException e) {
+        LOGGER.warn("Failed to parse int {}", string);
+      }
+    }
+    return 0;
+  }
+
+  @Contract(pure = true)
+  public int get() {
+    return this.value;
+  }
+
+  /**
+   * Gets the lower bound of this rule
+   *
+   * @return The minimum value, inclusive
+   */
+  @Contract(pure = true)
+  public int min() {
+    return this.min;
+  }
+
+  /**
+   * Gets the upper bound of this rule
+   *
+   * @return The maximum value, inclusive
+   */
+  @Contract(pure = true)
+  public int max() {
+    return this.max;
+  }
+
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  int getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write, used when a
+   * transaction reports the value held before all of its writes
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final int value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, clamped to the bounds of this rule, invoking change
+   * callbacks only if the clamped value is not equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   */
+  @Contract(mutates = "this")
+  public void set(final int value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final int value, final @Nullable MinecraftServer server) {
+    final int clamped = this.clamp(value);
+    if (this.value == clamped) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = clamped;
+    this.changed(server);
+    return true;
+  }
+
+  @Contract(pure = true)
+  private int clamp(final int value) {
+    return Math.max(this.min, Math.min(this.max, value));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
+    this.previousValue = this.value;
+    this.value = this.clamp(IntegerArgumentType.getInteger(context, name));
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void deserialize(final String string) {
+    this.read(parseInt(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, clamping it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final int value) {
+    this.previousValue = this.value;
+    this.value = this.clamp(value);
+  }
+
+  @Override
+  protected String serialize() {
+    return Integer.toString(this.value);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int getCommandResult() {
+    return this.value;
+  }
+
+  @Override
+  @Contract(pure = true)
+  protected BoundedIntRule getThis() {
+    return this;
+  }
+}
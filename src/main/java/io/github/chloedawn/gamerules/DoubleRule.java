@@ -19,8 +19,11 @@
 import com.google.common.base.Preconditions;
 import com.mojang.brigadier.arguments.DoubleArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
 import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +44,7 @@ public final class DoubleRule extends Rule<DoubleRule> {
   private static final Logger LOGGER = LogManager.getLogger();
 
   private double value;
+  private double previousValue;
 
   @Contract(pure = true)
   private DoubleRule(final RuleType<DoubleRule> type, final double initialValue) {
@@ -51,57 +55,128 @@ private DoubleRule(final RuleType<DoubleRule> type, final double initialValue) {
   @Contract("_, _ -> new")
   static RuleType<DoubleRule> create(final double initialValue, final BiConsumer<MinecraftServer, DoubleRule> changeCallback) {
     Preconditions.checkArgument(Double.isFinite(initialValue), "Initial value must be a number %s", initialValue);
-    return Rules.type("double", DoubleArgumentType::doubleArg, type -> new DoubleRule(type, initialValue), changeCallback);
+    final RuleType<DoubleRule> ruleType = Rules.type("double", DoubleArgumentType::doubleArg, type -> new DoubleRule(type, initialValue), changeCallback);
+    return RuleValidation.bind(ruleType, DoubleRuleValidator.class, DoubleRuleValidator::andThen);
   }
 
-  private static double parseDouble(final String string) {
-    if (!string.isEmpty()) {
-      try {
-        final double value = Double.parseDouble(string);
-        if (Double.isFinite(value)) {
-          return value;
-        }
-        LOGGER.warn("Parsed double was not a number {}", string);
-      } catch (final NumberFormatException e) {
-        LOGGER.warn("Failed to parse double {}", string);
-      }
+  static double parseDouble(final String string) {
+    final double value = Numbers.parseDouble(string);
+    if (Double.isFinite(value)) {
+      return value;
+    }
+    if (!Double.isNaN(value)) {
+      LOGGER.warn("Parsed double was not a number {}", string);
+    } else if (!string.isEmpty()) {
+      LOGGER.warn("Failed to parse double {}", string);
     }
     return 0.0;
   }
 
+  private double validate(final double value) {
+    final @Nullable DoubleRuleValidator validator = RuleValidation.validator(((RuleAccessor) (Object) this).getType(), DoubleRuleValidator.class);
+    return (validator != null) ? validator.validate(value) : value;
+  }
+
   @Contract(pure = true)
   public double get() {
     return this.value;
   }
 
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  double getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final double value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, invoking change callbacks only if the given {@code value},
+   * once validated, is not bitwise equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
   @Contract(mutates = "this")
   public void set(final double value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final double value, final @Nullable MinecraftServer server) {
     Preconditions.checkArgument(Double.isFinite(value), "Value must be a number %s", value);
-    this.value = value;
+    final double validated = this.validate(value);
+    if (Double.doubleToLongBits(this.value) == Double.doubleToLongBits(validated)) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = validated;
     this.changed(server);
+    return true;
   }
 
   @Override
   @Contract(mutates = "this")
   protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
     final double value = DoubleArgumentType.getDouble(context, name);
+    double validated = 0.0;
     if (Double.isFinite(value)) {
-      this.value = value;
+      validated = value;
     } else {
       LOGGER.warn("Double argument was not a number {}", value);
-      this.value = 0.0;
     }
+    try {
+      validated = this.validate(validated);
+    } catch (final IllegalArgumentException e) {
+      throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+    }
+    this.previousValue = this.value;
+    this.value = validated;
   }
 
   @Override
   @Contract(mutates = "this")
   protected void deserialize(final String string) {
-    this.value = parseDouble(string);
+    this.read(parseDouble(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, validating it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final double value) {
+    this.previousValue = this.value;
+    double finite = 0.0;
+    if (Double.isFinite(value)) {
+      finite = value;
+    } else {
+      LOGGER.warn("Read double was not a number {}", value);
+    }
+    try {
+      this.value = this.validate(finite);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected double {} {}", finite, e.getMessage());
+    }
   }
 
   @Override
   protected String serialize() {
-    return Double.toString(this.value);
+    return Numbers.formatDouble(this.value);
   }
 
   @Override
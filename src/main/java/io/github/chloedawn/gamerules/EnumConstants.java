@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import net.minecraft.command.CommandSource;
+import net.minecraft.server.command.ServerCommandSource;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup tables for the constants of an enum type, computed once per {@link EnumRule} type
+ * so that parsing never throws, catches, or copies the constants array. Names are matched exactly,
+ * falling back to a case-insensitive match against the lowercase names of the constants, unless two
+ * constants share a lowercase name, in which case only exact matches are accepted for them
+ *
+ * @param <E> The enum type
+ * @author Chloe Dawn
+ */
+final class EnumConstants<E extends Enum<E>> {
+  private final Class<E> type;
+  private final E[] constants;
+  private final ImmutableList<String> names;
+  private final ImmutableMap<String, E> byName;
+  private final ImmutableMap<String, E> byLowerName;
+
+  private EnumConstants(final Class<E> type, final E[] constants) {
+    final ImmutableList.Builder<String> names = ImmutableList.builder();
+    final ImmutableMap.Builder<String, E> byName = ImmutableMap.builder();
+    final Map<String, E> byLowerName = new HashMap<>(constants.length);
+    final Set<String> ambiguous = new HashSet<>(0);
+    for (final E constant : constants) {
+      names.add(constant.name());
+      byName.put(constant.name(), constant);
+      final String lowerName = constant.name().toLowerCase(Locale.ROOT);
+      if (byLowerName.put(lowerName, constant) != null) {
+        ambiguous.add(lowerName);
+      }
+    }
+    byLowerName.keySet().removeAll(ambiguous);
+    this.type = type;
+    this.constants = constants;
+    this.names = names.build();
+    this.byName = byName.build();
+    this.byLowerName = ImmutableMap.copyOf(byLowerName);
+  }
+
+  @Contract("_ -> new")
+  static <E extends Enum<E>> EnumConstants<E> of(final Class<E> type) {
+    return new EnumConstants<>(type, type.getEnumConstants());
+  }
+
+  @Contract(pure = true)
+  Class<E> type() {
+    return this.type;
+  }
+
+  /**
+   * Gets the first declared constant, which is the default value of rules of this type
+   *
+   * @return The first constant, or {@code null} if the enum declares no constants
+   */
+  @Contract(pure = true)
+  @Nullable E first() {
+    return (this.constants.length == 0) ? null : this.constants[0];
+  }
+
+  /**
+   * Gets the constant by the given {@code name}, preferring an exact match
+   *
+   * @param name The name of the constant
+   * @return The matching constant, or {@code null} if no constant matches
+   */
+  @Contract(pure = true)
+  @Nullable E get(final String name) {
+    final @Nullable E constant = this.byName.get(name);
+    return (constant != null) ? constant : this.byLowerName.get(name.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Gets the constant at the given {@code ordinal} if it has the given {@code name}
+   *
+   * @param ordinal The ordinal of the constant
+   * @param name The expected name of the constant
+   * @return The matching constant, or {@code null} if the constant is absent or was renamed
+   */
+  @Contract(pure = true)
+  @Nullable E get(final int ordinal, final String name) {
+    if (ordinal >= 0 && ordinal < this.constants.length && this.constants[ordinal].name().equals(name)) {
+      return this.constants[ordinal];
+    }
+    return null;
+  }
+
+  /**
+   * Creates a command suggestion provider serving the cached names of the constants
+   *
+   * @return A new suggestion provider
+   */
+  @Contract(value = "-> new", pure = true)
+  SuggestionProvider<ServerCommandSource> suggestions() {
+    return (context, builder) -> CommandSource.suggestMatching(this.names, builder);
+  }
+}
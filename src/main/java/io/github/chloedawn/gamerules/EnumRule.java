@@ -18,8 +18,11 @@
 
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
 import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
 import org.apache.logging.log4j.LogManager;
@@ -40,36 +43,45 @@
 public final class EnumRule<E extends Enum<E>> extends Rule<EnumRule<E>> {
   private static final Logger LOGGER = LogManager.getLogger();
 
-  private final Class<E> valueType;
+  private final EnumConstants<E> constants;
   private E value;
 
-  private EnumRule(final RuleType<EnumRule<E>> type, final Class<E> valueType, final E initialValue) {
+  private EnumRule(final RuleType<EnumRule<E>> type, final EnumConstants<E> constants, final E initialValue) {
     super(type);
-    this.valueType = valueType;
+    this.constants = constants;
     this.value = initialValue;
   }
 
   @Contract("_, _, _ -> new")
   static <E extends Enum<E>> RuleType<EnumRule<E>> create(final Class<E> valueType, final E initialValue, final BiConsumer<MinecraftServer, EnumRule<E>> changeCallback) {
-    return Rules.type(valueType.getSimpleName() + " enum", StringArgumentType::word, type -> new EnumRule<>(type, valueType, initialValue), changeCallback);
+    final EnumConstants<E> constants = EnumConstants.of(valueType);
+    final RuleType<EnumRule<E>> ruleType = Rules.type(valueType.getSimpleName() + " enum", StringArgumentType::word, type -> new EnumRule<>(type, constants, initialValue), changeCallback);
+    RuleValidation.<EnumRule<E>, RuleValidator<E>>bind(ruleType, RuleValidator.class, RuleValidator::andThen);
+    RuleTypeMetadata.setSuggestions(ruleType, constants.suggestions());
+    return ruleType;
   }
 
   static <E extends Enum<E>> @Nullable E initialValue(final Class<E> valueType) {
     final E[] constants = valueType.getEnumConstants();
-    return constants.length == 0 ? null : constants[0];
+    return (constants.length != 0) ? constants[0] : null;
   }
 
-  private static <E extends Enum<E>> E parseEnum(final Class<E> type, final String string) {
+  private static <E extends Enum<E>> E parseEnum(final EnumConstants<E> constants, final String string) {
+    final @Nullable E value = constants.get(string);
+    if (value != null) {
+      return value;
+    }
     if (!string.isEmpty()) {
-      try {
-        return Enum.valueOf(type, string);
-      } catch (final IllegalArgumentException e) {
-        LOGGER.warn("Failed to parse enum {} {}", type.getSimpleName(), string);
-      }
+      LOGGER.warn("Failed to parse enum {} {}", constants.type().getSimpleName(), string);
     }
-    final @Nullable E value = initialValue(type);
-    assert value != null : "No initial value";
-    return value;
+    final @Nullable E first = constants.first();
+    assert first != null : "No initial value";
+    return first;
+  }
+
+  private E validate(final E value) {
+    final @Nullable RuleValidator<E> validator = RuleValidation.validator(((RuleAccessor) (Object) this).getType(), RuleValidator.class);
+    return (validator != null) ? Objects.requireNonNull(validator.validate(value)) : value;
   }
 
   @Contract(pure = true)
@@ -77,20 +89,67 @@ public E get() {
     return this.value;
   }
 
+  /**
+   * Sets the value of this rule, invoking change callbacks only if the
+   * given {@code value}, once validated, is not the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
   @Contract(mutates = "this")
   public void set(final E value, final @Nullable MinecraftServer server) {
-    this.value = Objects.requireNonNull(value);
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final E value, final @Nullable MinecraftServer server) {
+    final E validated = this.validate(Objects.requireNonNull(value));
+    if (this.value == validated) {
+      return false;
+    }
+    this.value = validated;
     this.changed(server);
+    return true;
   }
 
   @Override
   protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
-    this.value = parseEnum(this.valueType, StringArgumentType.getString(context, name));
+    try {
+      this.value = this.validate(parseEnum(this.constants, StringArgumentType.getString(context, name)));
+    } catch (final IllegalArgumentException e) {
+      throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+    }
   }
 
   @Override
   protected void deserialize(final String string) {
-    this.value = parseEnum(this.valueType, string);
+    this.read(parseEnum(this.constants, string));
+  }
+
+  /**
+   * Reads the constant by the given {@code ordinal} and {@code name} as loaded from a typed tag. The
+   * constant at the ordinal is used if its name matches, so that reordered constants are still found
+   * by name, falling back to the first constant as {@link #deserialize} does
+   *
+   * @param ordinal The loaded ordinal
+   * @param name The loaded name
+   */
+  @Contract(mutates = "this")
+  void read(final int ordinal, final String name) {
+    @Nullable E value = this.constants.get(ordinal, name);
+    if (value == null) {
+      value = parseEnum(this.constants, name);
+    }
+    this.read(value);
+  }
+
+  private void read(final E value) {
+    try {
+      this.value = this.validate(value);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected enum {} {} {}", this.constants.type().getSimpleName(), value, e.getMessage());
+    }
   }
 
   @Override
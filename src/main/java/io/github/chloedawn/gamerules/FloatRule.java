@@ -19,8 +19,11 @@
 import com.google.common.base.Preconditions;
 import com.mojang.brigadier.arguments.FloatArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
 import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +45,7 @@ public final class FloatRule extends Rule<FloatRule> {
   private static final Logger LOGGER = LogManager.getLogger();
 
   private float value;
+  private float previousValue;
 
   @Contract(pure = true)
   private FloatRule(final RuleType<FloatRule> type, final float initialValue) {
@@ -52,57 +56,128 @@ private FloatRule(final RuleType<FloatRule> type, final float initialValue) {
   @Contract("_, _ -> new")
   static RuleType<FloatRule> create(final float initialValue, final BiConsumer<MinecraftServer, FloatRule> changeCallback) {
     Preconditions.checkArgument(Float.isFinite(initialValue), "Initial value must be a number %s", initialValue);
-    return Rules.type("float", FloatArgumentType::floatArg, type -> new FloatRule(type, initialValue), changeCallback);
+    final RuleType<FloatRule> ruleType = Rules.type("float", FloatArgumentType::floatArg, type -> new FloatRule(type, initialValue), changeCallback);
+    return RuleValidation.bind(ruleType, FloatRuleValidator.class, FloatRuleValidator::andThen);
   }
 
-  private static float parseFloat(final String string) {
-    if (!string.isEmpty()) {
-      try {
-        final float value = Float.parseFloat(string);
-        if (Float.isFinite(value)) {
-          return value;
-        }
-        LOGGER.warn("Parsed float was not a number {}", string);
-      } catch (final NumberFormatException e) {
-        LOGGER.warn("Failed to parse float {}", string);
-      }
+  static float parseFloat(final String string) {
+    final float value = Numbers.parseFloat(string);
+    if (Float.isFinite(value)) {
+      return value;
+    }
+    if (!Float.isNaN(value)) {
+      LOGGER.warn("Parsed float was not a number {}", string);
+    } else if (!string.isEmpty()) {
+      LOGGER.warn("Failed to parse float {}", string);
     }
     return 0.0F;
   }
 
+  private float validate(final float value) {
+    final @Nullable FloatRuleValidator validator = RuleValidation.validator(((RuleAccessor) (Object) this).getType(), FloatRuleValidator.class);
+    return (validator != null) ? validator.validate(value) : value;
+  }
+
   @Contract(pure = true)
   public float get() {
     return this.value;
   }
 
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  float getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final float value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, invoking change callbacks only if the given {@code value},
+   * once validated, is not bitwise equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
   @Contract(mutates = "this")
   public void set(final float value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final float value, final @Nullable MinecraftServer server) {
     Preconditions.checkArgument(Float.isFinite(value), "Value must be a number %s", value);
-    this.value = value;
+    final float validated = this.validate(value);
+    if (Float.floatToIntBits(this.value) == Float.floatToIntBits(validated)) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = validated;
     this.changed(server);
+    return true;
   }
 
   @Override
   @Contract(mutates = "this")
   protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
     final float value = FloatArgumentType.getFloat(context, name);
+    float validated = 0.0F;
     if (Float.isFinite(value)) {
-      this.value = value;
+      validated = value;
     } else {
       LOGGER.warn("Float argument was not a number {}", value);
-      this.value = 0.0F;
     }
+    try {
+      validated = this.validate(validated);
+    } catch (final IllegalArgumentException e) {
+      throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+    }
+    this.previousValue = this.value;
+    this.value = validated;
   }
 
   @Override
   @Contract(mutates = "this")
   protected void deserialize(final String string) {
-    this.value = parseFloat(string);
+    this.read(parseFloat(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, validating it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final float value) {
+    this.previousValue = this.value;
+    float finite = 0.0F;
+    if (Float.isFinite(value)) {
+      finite = value;
+    } else {
+      LOGGER.warn("Read float was not a number {}", value);
+    }
+    try {
+      this.value = this.validate(finite);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected float {} {}", finite, e.getMessage());
+    }
   }
 
   @Override
   protected String serialize() {
-    return Float.toString(this.value);
+    return Numbers.formatFloat(this.value);
   }
 
   @Override
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.RuleKey;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A validator for {@link IntRule} values, applied before a value is written by a setter, a command
+ * or deserialization. A validator may return an adjusted value, such as a clamped value, or reject
+ * the value by throwing an {@link IllegalArgumentException}, in which case the rule keeps its value
+ *
+ * @author Chloe Dawn
+ * @see Rules#validate(RuleKey, IntRuleValidator)
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface IntRuleValidator {
+  /**
+   * Creates a validator that clamps values to the given range
+   *
+   * @param min The minimum value, inclusive
+   * @param max The maximum value, inclusive
+   * @return A new clamping validator
+   * @throws IllegalArgumentException If the minimum is greater than the maximum
+   * @since 0.1.0
+   */
+  @Contract(value = "_, _ -> new", pure = true)
+  static IntRuleValidator clamp(final int min, final int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("Minimum " + min + " is greater than maximum " + max);
+    }
+    return value -> Math.max(min, Math.min(max, value));
+  }
+
+  /**
+   * Validates the given {@code value} before it is written
+   *
+   * @param value The value to be written
+   * @return The value to write in its place
+   * @throws IllegalArgumentException If the value is rejected
+   */
+  int validate(final int value);
+
+  /**
+   * Composes this validator with the given {@code next} validator, which
+   * validates the values returned by this validator
+   *
+   * @param next The validator to apply afterwards
+   * @return The composed validator
+   * @since 0.1.0
+   */
+  @Contract(value = "_ -> new", pure = true)
+  default IntRuleValidator andThen(final IntRuleValidator next) {
+    return value -> next.validate(this.validate(value));
+  }
+}
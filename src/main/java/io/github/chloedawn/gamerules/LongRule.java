@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Rule} implementation for {@code long} values
+ *
+ * @author Chloe Dawn
+ * @see Rules#createLongRule
+ * @since 0.1.0
+ */
+public final class LongRule extends Rule<LongRule> {
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private long value;
+  private long previousValue;
+
+  @Contract(pure = true)
+  private LongRule(final RuleType<LongRule> type, final long initialValue) {
+    super(type);
+    this.value = initialValue;
+  }
+
+  @Contract("_, _ -> new")
+  static RuleType<LongRule> create(final long initialValue, final BiConsumer<MinecraftServer, LongRule> changeCallback) {
+    final RuleType<LongRule> ruleType = Rules.type("long", LongArgumentType::longArg, type -> new LongRule(type, initialValue), changeCallback);
+    return RuleValidation.bind(ruleType, LongRuleValidator.class, LongRuleValidator::andThen);
+  }
+
+  static long parseLong(final String string) {
+    if (!string.isEmpty()) {
+      try {
+        return Long.parseLong(string);
+      } catch (final NumberFormatException e) {
+        LOGGER.warn("Failed to parse long {}", string);
+      }
+    }
+    return 0L;
+  }
+
+  private long validate(final long value) {
+    final @Nullable LongRuleValidator validator = RuleValidation.validator(((RuleAccessor) (Object) this).getType(), LongRuleValidator.class);
+    return (validator != null) ? validator.validate(value) : value;
+  }
+
+  @Contract(pure = true)
+  public long get() {
+    return this.value;
+  }
+
+  /**
+   * Gets the value this rule held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  long getPreviousValue() {
+    return this.previousValue;
+  }
+
+  /**
+   * Sets the value this rule held before its most recent write
+   *
+   * @param value The previous value
+   */
+  @Contract(mutates = "this")
+  void setPreviousValue(final long value) {
+    this.previousValue = value;
+  }
+
+  /**
+   * Sets the value of this rule, invoking change callbacks only if
+   * the given {@code value}, once validated, differs from the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
+  @Contract(mutates = "this")
+  public void set(final long value, final @Nullable MinecraftServer server) {
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final long value, final @Nullable MinecraftServer server) {
+    final long validated = this.validate(value);
+    if (this.value == validated) {
+      return false;
+    }
+    this.previousValue = this.value;
+    this.value = validated;
+    this.changed(server);
+    return true;
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
+    final long validated;
+    try {
+      validated = this.validate(LongArgumentType.getLong(context, name));
+    } catch (final IllegalArgumentException e) {
+      throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+    }
+    this.previousValue = this.value;
+    this.value = validated;
+  }
+
+  @Override
+  @Contract(mutates = "this")
+  protected void deserialize(final String string) {
+    this.read(parseLong(string));
+  }
+
+  /**
+   * Reads the given {@code value} as loaded from a typed tag, validating it as {@link #deserialize} does
+   *
+   * @param value The loaded value
+   */
+  @Contract(mutates = "this")
+  void read(final long value) {
+    this.previousValue = this.value;
+    try {
+      this.value = this.validate(value);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected long {} {}", value, e.getMessage());
+    }
+  }
+
+  @Override
+  protected String serialize() {
+    return Long.toString(this.value);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int getCommandResult() {
+    return Long.signum(this.value);
+  }
+
+  @Override
+  @Contract(pure = true)
+  protected LongRule getThis() {
+    return this;
+  }
+}
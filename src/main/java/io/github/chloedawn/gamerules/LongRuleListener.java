@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules.RuleKey;
+
+/**
+ * A change listener for {@link LongRule} values, receiving both the value before
+ * and after the change without boxing either
+ *
+ * @author Chloe Dawn
+ * @see Rules#observe(RuleKey, LongRuleListener)
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface LongRuleListener {
+  /**
+   * Invoked when the observed rule is changed
+   *
+   * @param server The server that the rule is bound to
+   * @param oldValue The value of the rule before the change
+   * @param newValue The value of the rule after the change
+   */
+  void onChange(final MinecraftServer server, final long oldValue, final long newValue);
+}
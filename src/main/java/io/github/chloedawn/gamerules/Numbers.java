@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Formatting and parsing of {@code double} and {@code float} rule values without exceptions.
+ * <p>
+ * Values between {@code 1.0E-3} inclusive and {@code 1.0E7} exclusive are formatted as the decimal
+ * with the fewest fraction digits that parses back to the same value, written into a per-thread
+ * buffer. A candidate decimal is accepted only if dividing its digits by a power of ten, which is
+ * exact for up to 53 (or 24) bit digits and exponents of up to 22 (or 10), yields the value, so
+ * every formatted value round-trips through {@link Double#parseDouble} and {@link Float#parseFloat}.
+ * Parsing takes the same exact path where it applies, after validating the syntax up front.
+ * All other values fall back to the platform's formatting and parsing
+ *
+ * @author Chloe Dawn
+ */
+final class Numbers {
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1.0E0, 1.0E1, 1.0E2, 1.0E3, 1.0E4, 1.0E5, 1.0E6, 1.0E7, 1.0E8, 1.0E9, 1.0E10, 1.0E11,
+    1.0E12, 1.0E13, 1.0E14, 1.0E15, 1.0E16, 1.0E17, 1.0E18, 1.0E19, 1.0E20, 1.0E21, 1.0E22
+  };
+
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+    1.0E0F, 1.0E1F, 1.0E2F, 1.0E3F, 1.0E4F, 1.0E5F, 1.0E6F, 1.0E7F, 1.0E8F, 1.0E9F, 1.0E10F
+  };
+
+  private static final long MAX_DOUBLE_DIGITS = 1L << 53;
+  private static final long MAX_FLOAT_DIGITS = 1L << 24;
+  private static final int MAX_DIGITS = 18;
+
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+  private Numbers() {
+  }
+
+  /**
+   * Formats the given {@code value} as a decimal that parses back to the same value
+   *
+   * @param value The value to be formatted
+   * @return The formatted value
+   */
+  static String formatDouble(final double value) {
+    final char[] buffer = BUFFER.get();
+    final int length = writeDouble(buffer, value);
+    return (length < 0) ? Double.toString(value) : new String(buffer, 0, length);
+  }
+
+  /**
+   * Formats the given {@code value} as a decimal that parses back to the same value
+   *
+   * @param value The value to be formatted
+   * @return The formatted value
+   */
+  static String formatFloat(final float value) {
+    final char[] buffer = BUFFER.get();
+    final int length = writeFloat(buffer, value);
+    return (length < 0) ? Float.toString(value) : new String(buffer, 0, length);
+  }
+
+  /**
+   * Parses the given {@code string} as a {@code double}, accepting the decimal syntax
+   * of {@link Double#parseDouble} surrounded by optional whitespace
+   *
+   * @param string The string to be parsed
+   * @return The parsed value, or {@link Double#NaN} if the string is malformed
+   */
+  @Contract(pure = true)
+  static double parseDouble(final String string) {
+    return parse(string, false);
+  }
+
+  /**
+   * Parses the given {@code string} as a {@code float}, accepting the decimal syntax
+   * of {@link Float#parseFloat} surrounded by optional whitespace
+   *
+   * @param string The string to be parsed
+   * @return The parsed value, or {@link Float#NaN} if the string is malformed
+   */
+  @Contract(pure = true)
+  static float parseFloat(final String string) {
+    return (float) parse(string, true);
+  }
+
+  private static int writeDouble(final char[] buffer, final double value) {
+    final boolean negative = (Double.doubleToRawLongBits(value) < 0L);
+    final double magnitude = Math.abs(value);
+    if (magnitude == 0.0) {
+      return write(buffer, negative, 0L, 0);
+    }
+    if (!(magnitude >= 1.0E-3 && magnitude < 1.0E7)) {
+      return -1;
+    }
+    for (int scale = 0; scale < DOUBLE_POWERS_OF_TEN.length; ++scale) {
+      final double scaled = Math.rint(magnitude * DOUBLE_POWERS_OF_TEN[scale]);
+      if (scaled >= MAX_DOUBLE_DIGITS) {
+        return -1;
+      }
+      if (scaled / DOUBLE_POWERS_OF_TEN[scale] == magnitude) {
+        return write(buffer, negative, (long) scaled, scale);
+      }
+    }
+    return -1;
+  }
+
+  private static int writeFloat(final char[] buffer, final float value) {
+    final boolean negative = (Float.floatToRawIntBits(value) < 0);
+    final float magnitude = Math.abs(value);
+    if (magnitude == 0.0F) {
+      return write(buffer, negative, 0L, 0);
+    }
+    if (!(magnitude >= 1.0E-3F && magnitude < 1.0E7F)) {
+      return -1;
+    }
+    for (int scale = 0; scale < FLOAT_POWERS_OF_TEN.length; ++scale) {
+      final double scaled = Math.rint(magnitude * DOUBLE_POWERS_OF_TEN[scale]);
+      if (scaled >= MAX_FLOAT_DIGITS) {
+        return -1;
+      }
+      if ((float) scaled / FLOAT_POWERS_OF_TEN[scale] == magnitude) {
+        return write(buffer, negative, (long) scaled, scale);
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Writes the decimal {@code digits / 10^scale} into the given {@code buffer}, always with a fraction part
+   *
+   * @return The number of characters written
+   */
+  private static int write(final char[] buffer, final boolean negative, final long digits, final int scale) {
+    int position = buffer.length;
+    long remaining = digits;
+    if (scale == 0) {
+      buffer[--position] = '0';
+    } else {
+      for (int digit = 0; digit < scale; ++digit) {
+        buffer[--position] = (char) ('0' + (int) (remaining % 10L));
+        remaining /= 10L;
+      }
+    }
+    buffer[--position] = '.';
+    do {
+      buffer[--position] = (char) ('0' + (int) (remaining % 10L));
+      remaining /= 10L;
+    } while (remaining != 0L);
+    if (negative) {
+      buffer[--position] = '-';
+    }
+    final int length = buffer.length - position;
+    System.arraycopy(buffer, position, buffer, 0, length);
+    return length;
+  }
+
+  private static double parse(final String string, final boolean single) {
+    int start = 0;
+    int end = string.length();
+    while (start < end && string.charAt(start) <= ' ') {
+      ++start;
+    }
+    while (end > start && string.charAt(end - 1) <= ' ') {
+      --end;
+    }
+    int index = start;
+    boolean negative = false;
+    if (index < end && (string.charAt(index) == '-' || string.charAt(index) == '+')) {
+      negative = (string.charAt(index) == '-');
+      ++index;
+    }
+    long digits = 0L;
+    int digitCount = 0;
+    int exponent = 0;
+    boolean anyDigits = false;
+    boolean exact = true;
+    boolean fraction = false;
+    for (; index < end; ++index) {
+      final char c = string.charAt(index);
+      if (c >= '0' && c <= '9') {
+        anyDigits = true;
+        if (digitCount < MAX_DIGITS) {
+          if (digits != 0L || c != '0') {
+            digits = (digits * 10L) + (c - '0');
+            ++digitCount;
+          }
+          if (fraction) {
+            --exponent;
+          }
+        } else {
+          exact &= (c == '0');
+          if (!fraction) {
+            ++exponent;
+          }
+        }
+      } else if (c == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+    }
+    if (!anyDigits) {
+      return Double.NaN;
+    }
+    if (index < end && (string.charAt(index) == 'e' || string.charAt(index) == 'E')) {
+      ++index;
+      boolean negativeExponent = false;
+      if (index < end && (string.charAt(index) == '-' || string.charAt(index) == '+')) {
+        negativeExponent = (string.charAt(index) == '-');
+        ++index;
+      }
+      if (index == end) {
+        return Double.NaN;
+      }
+      int explicitExponent = 0;
+      for (; index < end; ++index) {
+        final char c = string.charAt(index);
+        if (c < '0' || c > '9') {
+          return Double.NaN;
+        }
+        explicitExponent = Math.min((explicitExponent * 10) + (c - '0'), 100_000);
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+    if (index != end) {
+      return Double.NaN;
+    }
+    if (digits == 0L) {
+      return negative ? -0.0 : 0.0;
+    }
+    if (exact && single && digits <= MAX_FLOAT_DIGITS && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length) {
+      final float value = (exponent < 0) ? ((float) digits / FLOAT_POWERS_OF_TEN[-exponent]) : ((float) digits * FLOAT_POWERS_OF_TEN[exponent]);
+      return negative ? -value : value;
+    }
+    if (exact && !single && digits <= MAX_DOUBLE_DIGITS && Math.abs(exponent) < DOUBLE_POWERS_OF_TEN.length) {
+      final double value = (exponent < 0) ? ((double) digits / DOUBLE_POWERS_OF_TEN[-exponent]) : ((double) digits * DOUBLE_POWERS_OF_TEN[exponent]);
+      return negative ? -value : value;
+    }
+    // The syntax has been validated, so the platform parser cannot throw here
+    final String decimal = string.substring(start, end);
+    return single ? Float.parseFloat(decimal) : Double.parseDouble(decimal);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.RuleKey;
+import net.minecraft.world.GameRules.RuleType;
+import net.minecraft.world.World;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A lazily computed value derived from one or more rules, which is only recomputed
+ * after one of its source rules has changed. A cache holds the value for a single
+ * {@link GameRules} instance at a time, and is recomputed when queried for another.
+ * Closing a cache stops it from being invalidated, after which the value is
+ * recomputed on every access
+ *
+ * @param <V> The derived value type
+ * @author Chloe Dawn
+ * @see Rules#cache(Function, RuleKey[])
+ * @since 0.1.0
+ */
+public final class RuleCache<V> implements AutoCloseable {
+  private final Function<GameRules, V> function;
+  private final RuleType<?>[] types;
+  private final AtomicInteger invalidations = new AtomicInteger();
+  private volatile @Nullable Entry<V> entry;
+  private volatile boolean closed;
+
+  @Contract(pure = true)
+  RuleCache(final Function<GameRules, V> function, final RuleType<?>[] types) {
+    this.function = function;
+    this.types = types;
+  }
+
+  /**
+   * Gets the derived value for the given {@code rules}, computing it if
+   * a source rule has changed since it was last computed
+   *
+   * @param rules The game rules instance
+   * @return The derived value
+   * @since 0.1.0
+   */
+  public V get(final GameRules rules) {
+    final int invalidations = this.invalidations.get();
+    final @Nullable Entry<V> entry = this.entry;
+    if (entry != null && !this.closed && entry.rules == rules && entry.invalidations == invalidations) {
+      return entry.value;
+    }
+    final V value = this.function.apply(rules);
+    if (!this.closed) {
+      this.entry = new Entry<>(rules, value, invalidations);
+    }
+    return value;
+  }
+
+  /**
+   * Gets the derived value for the game rules of the given {@code server}
+   *
+   * @param server The server containing the game rules
+   * @return The derived value
+   * @since 0.1.0
+   */
+  public V get(final MinecraftServer server) {
+    return this.get(server.getGameRules());
+  }
+
+  /**
+   * Gets the derived value for the game rules of the given {@code level}
+   *
+   * @param level The level containing the game rules
+   * @return The derived value
+   * @since 0.1.0
+   */
+  public V get(final World level) {
+    return this.get(level.getGameRules());
+  }
+
+  /**
+   * Removes this cache from its source rules, so that it is no longer invalidated
+   * by them. Closing a closed cache has no effect
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    this.entry = null;
+    for (final RuleType<?> type : this.types) {
+      RuleChangeCallbacks.removeCache(type, this);
+    }
+  }
+
+  /**
+   * Discards the current value, so that it is recomputed on next access
+   */
+  void invalidate() {
+    this.invalidations.incrementAndGet();
+    this.entry = null;
+  }
+
+  /**
+   * A computed value, stamped with the invalidation count read before it was computed.
+   * An entry is only valid while the count is unchanged, so a value computed concurrently
+   * with an invalidation is never returned once stored
+   */
+  private static final class Entry<V> {
+    final GameRules rules;
+    final V value;
+    final int invalidations;
+
+    Entry(final GameRules rules, final V value, final int invalidations) {
+      this.rules = rules;
+      this.value = value;
+      this.invalidations = invalidations;
+    }
+  }
+}
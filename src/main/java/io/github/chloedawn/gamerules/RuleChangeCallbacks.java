@@ -21,26 +21,43 @@
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleKey;
 import net.minecraft.world.GameRules.RuleType;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 
 /**
- * Data class for holding additional change callbacks for a rule type
+ * Data class for holding additional change callbacks for a rule type, and the caches
+ * that are derived from rules of the type and invalidated whenever one of them changes
  *
  * @param <T> The rule type
  * @author Chloe Dawn
+ * @see RuleTypeMetadata
  */
 @ApiStatus.Internal
 public final class RuleChangeCallbacks<T extends Rule<T>> {
-  private static final Logger LOGGER = LogManager.getLogger();
+  private static final Observer<?>[] NO_OBSERVERS = new Observer<?>[0];
+  private static final RuleCache<?>[] NO_CACHES = new RuleCache<?>[0];
 
-  private final Collection<BiConsumer<MinecraftServer, T>> callbacks = new LinkedHashSet<>(0);
+  /**
+   * An immutable snapshot of the added callbacks, replaced as a whole
+   * whenever a callback is added or removed
+   */
+  @SuppressWarnings("unchecked")
+  private volatile Observer<T>[] callbacks = (Observer<T>[]) NO_OBSERVERS;
+
+  /**
+   * An immutable snapshot of the added conflated callbacks, which are called
+   * at most once per tick with the latest value of a changed rule
+   */
+  @SuppressWarnings("unchecked")
+  private volatile Observer<T>[] conflatedCallbacks = (Observer<T>[]) NO_OBSERVERS;
+
+  /**
+   * An immutable snapshot of the caches derived from rules of this type
+   */
+  private volatile RuleCache<?>[] caches = NO_CACHES;
 
   /**
    * Gets the additional change callbacks of the given {@link RuleType}
@@ -65,21 +82,231 @@ public static <T extends Rule<T>> RuleChangeCallbacks<T> of(final RuleType<?> ty
    * @throws IllegalArgumentException If the callback has already been added
    */
   static <T extends Rule<T>> void add(final RuleKey<?> key, final RuleType<?> type, final BiConsumer<MinecraftServer, T> callback) {
-    if (!RuleChangeCallbacks.<T>of(type).callbacks.add(callback)) {
+    final RuleChangeCallbacks<T> callbacks = of(type);
+    synchronized (callbacks) {
+      callbacks.callbacks = appended(key, callbacks.callbacks, callback);
+    }
+  }
+
+  /**
+   * Removes the given change {@code callback} from the given {@link RuleType}
+   *
+   * @param type The rule type to remove the callback from
+   * @param callback The callback to be removed
+   * @param <T> The rule instance type
+   * @return True if the callback was present and has been removed
+   */
+  static <T extends Rule<T>> boolean remove(final RuleType<?> type, final BiConsumer<?, ?> callback) {
+    final RuleChangeCallbacks<T> callbacks = of(type);
+    synchronized (callbacks) {
+      final Observer<T>[] current = callbacks.callbacks;
+      return current != (callbacks.callbacks = removed(current, callback));
+    }
+  }
+
+  /**
+   * Appends the given conflated change {@code callback} to the given {@link RuleType}
+   *
+   * @param key The key used to lookup the type reference
+   * @param type The rule type to add the callback to
+   * @param callback The callback to be added
+   * @param <T> The rule instance type
+   * @throws IllegalArgumentException If the callback has already been added
+   * @see RuleTicks
+   */
+  static <T extends Rule<T>> void addConflated(final RuleKey<?> key, final RuleType<?> type, final BiConsumer<MinecraftServer, T> callback) {
+    final RuleChangeCallbacks<T> callbacks = of(type);
+    synchronized (callbacks) {
+      callbacks.conflatedCallbacks = appended(key, callbacks.conflatedCallbacks, callback);
+    }
+  }
+
+  /**
+   * Removes the given conflated change {@code callback} from the given {@link RuleType}
+   *
+   * @param type The rule type to remove the callback from
+   * @param callback The callback to be removed
+   * @param <T> The rule instance type
+   * @return True if the callback was present and has been removed
+   */
+  static <T extends Rule<T>> boolean removeConflated(final RuleType<?> type, final BiConsumer<?, ?> callback) {
+    final RuleChangeCallbacks<T> callbacks = of(type);
+    synchronized (callbacks) {
+      final Observer<T>[] current = callbacks.conflatedCallbacks;
+      return current != (callbacks.conflatedCallbacks = removed(current, callback));
+    }
+  }
+
+  /**
+   * Determines whether the given change {@code callback} has been added to the given {@link RuleType}
+   *
+   * @param type The rule type of the callback
+   * @param callback The callback
+   * @return True if the callback is present, whether or not it is conflated
+   */
+  @Contract(pure = true)
+  static boolean contains(final RuleType<?> type, final BiConsumer<?, ?> callback) {
+    final RuleChangeCallbacks<?> callbacks = of(type);
+    return (indexOf(callbacks.callbacks, callback) != -1) || (indexOf(callbacks.conflatedCallbacks, callback) != -1);
+  }
+
+  /**
+   * Re-enables the given change {@code callback} of the given {@link RuleType} if
+   * it has been disabled by its circuit breaker
+   *
+   * @param type The rule type of the callback
+   * @param callback The callback to be re-enabled
+   * @return True if the callback was disabled and has been re-enabled
+   * @see RuleCircuitBreaker
+   */
+  static boolean reset(final RuleType<?> type, final BiConsumer<?, ?> callback) {
+    final RuleChangeCallbacks<?> callbacks = of(type);
+    return reset(callbacks.callbacks, callback) | reset(callbacks.conflatedCallbacks, callback);
+  }
+
+  /**
+   * Adds the given {@code cache} as a dependent of the given {@link RuleType}, so that
+   * it is invalidated whenever a rule of the given type is changed
+   *
+   * @param type The rule type the cache is derived from
+   * @param cache The cache to be invalidated
+   */
+  static void addCache(final RuleType<?> type, final RuleCache<?> cache) {
+    final RuleChangeCallbacks<?> callbacks = of(type);
+    synchronized (callbacks) {
+      final RuleCache<?>[] current = callbacks.caches;
+      final RuleCache<?>[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = cache;
+      callbacks.caches = updated;
+    }
+  }
+
+  /**
+   * Removes the given {@code cache} from the dependents of the given {@link RuleType}
+   *
+   * @param type The rule type the cache is derived from
+   * @param cache The cache to be removed
+   */
+  static void removeCache(final RuleType<?> type, final RuleCache<?> cache) {
+    final RuleChangeCallbacks<?> callbacks = of(type);
+    synchronized (callbacks) {
+      final RuleCache<?>[] current = callbacks.caches;
+      for (int i = 0; i < current.length; ++i) {
+        if (current[i] == cache) {
+          final RuleCache<?>[] updated = new RuleCache<?>[current.length - 1];
+          System.arraycopy(current, 0, updated, 0, i);
+          System.arraycopy(current, i + 1, updated, i, updated.length - i);
+          callbacks.caches = (updated.length == 0) ? NO_CACHES : updated;
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Invalidates all caches derived from rules of this type
+   */
+  void invalidateCaches() {
+    final RuleCache<?>[] caches = this.caches;
+    for (int i = 0; i < caches.length; ++i) {
+      caches[i].invalidate();
+    }
+  }
+
+  @Contract(pure = true)
+  private static int indexOf(final Observer<?>[] observers, final BiConsumer<?, ?> callback) {
+    for (int i = 0; i < observers.length; ++i) {
+      if (observers[i].callback.equals(callback)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  private static <T extends Rule<T>> Observer<T>[] appended(final RuleKey<?> key, final Observer<T>[] current, final BiConsumer<MinecraftServer, T> callback) {
+    if (indexOf(current, callback) != -1) {
       throw new IllegalArgumentException("Duplicate change callback for " + key);
     }
+    final Observer<T>[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = new Observer<>(callback, new RuleCircuitBreaker(key, callback));
+    return updated;
+  }
+
+  private static <T extends Rule<T>> Observer<T>[] removed(final Observer<T>[] current, final BiConsumer<?, ?> callback) {
+    final int index = indexOf(current, callback);
+    if (index == -1) {
+      return current;
+    }
+    RuleListeners.cancel(current[index].callback);
+    final Observer<T>[] updated = Arrays.copyOf(current, current.length - 1);
+    System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+    return updated;
+  }
+
+  private static boolean reset(final Observer<?>[] observers, final BiConsumer<?, ?> callback) {
+    final int index = indexOf(observers, callback);
+    if (index == -1) {
+      return false;
+    }
+    final Observer<?> observer = observers[index];
+    return observer.breaker.reset() | RuleListeners.reset(observer.callback);
   }
 
   /**
-   * Calls any added change callbacks for the given {@code server} and {@code rule}
+   * Calls any added change callbacks for the given {@code server} and {@code rule}, and
+   * queues the rule for its conflated callbacks at the end of the current tick.
+   * Callbacks added or removed during the call take effect from the next call
    *
    * @param server The server that the given rule is bound to
    * @param rule The rule that was changed
    */
   public void call(final MinecraftServer server, final T rule) {
-    LOGGER.debug("Calling additional change callbacks");
-    for (final BiConsumer<MinecraftServer, T> callback : this.callbacks) {
-      callback.accept(server, rule);
+    dispatch(this.callbacks, server, rule);
+    if (this.conflatedCallbacks.length != 0) {
+      RuleTicks.changed(rule);
+    }
+  }
+
+  /**
+   * Calls any added conflated change callbacks for the given {@code server} and {@code rule}
+   *
+   * @param server The server that the given rule is bound to
+   * @param rule The rule that was changed one or more times during the tick
+   */
+  void callConflated(final MinecraftServer server, final T rule) {
+    dispatch(this.conflatedCallbacks, server, rule);
+  }
+
+  /**
+   * Calls each of the given {@code observers} in isolation, so that a callback that
+   * throws neither prevents later callbacks from being called nor propagates into the
+   * rule. Callbacks disabled by their circuit breaker are skipped
+   */
+  private static <T extends Rule<T>> void dispatch(final Observer<T>[] observers, final MinecraftServer server, final T rule) {
+    for (int i = 0; i < observers.length; ++i) {
+      final Observer<T> observer = observers[i];
+      final RuleCircuitBreaker breaker = observer.breaker;
+      if (!breaker.isOpen()) {
+        final long start = System.nanoTime();
+        try {
+          observer.callback.accept(server, rule);
+        } catch (final RuntimeException e) {
+          breaker.failed(e);
+          continue;
+        }
+        breaker.succeeded(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class Observer<T extends Rule<T>> {
+    final BiConsumer<MinecraftServer, T> callback;
+    final RuleCircuitBreaker breaker;
+
+    Observer(final BiConsumer<MinecraftServer, T> callback, final RuleCircuitBreaker breaker) {
+      this.callback = callback;
+      this.breaker = breaker;
     }
   }
 }
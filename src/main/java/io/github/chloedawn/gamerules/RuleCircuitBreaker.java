@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import net.minecraft.world.GameRules.RuleKey;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Isolates a single change callback from the rule and the other callbacks it is called
+ * alongside. Exceptions thrown by the callback are caught and logged, and the callback is
+ * disabled after failing, or exceeding the latency threshold, too many times in a row.
+ * Failures of the same callback are logged at most once per interval
+ *
+ * @author Chloe Dawn
+ * @see Rules#resetObserver(RuleKey, BiConsumer)
+ * @since 0.1.0
+ */
+public final class RuleCircuitBreaker {
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final long LOG_INTERVAL = TimeUnit.SECONDS.toNanos(10L);
+
+  private static volatile int failureThreshold = 3;
+  private static volatile long latencyThreshold = TimeUnit.MILLISECONDS.toNanos(50L);
+  private static volatile int overrunThreshold = 3;
+
+  private final RuleKey<?> key;
+  private final Object callback;
+  private int failures;
+  private int overruns;
+  private long lastLogged;
+  private int suppressed;
+  private volatile boolean open;
+
+  @Contract(pure = true)
+  RuleCircuitBreaker(final RuleKey<?> key, final Object callback) {
+    this.key = key;
+    this.callback = callback;
+    this.lastLogged = System.nanoTime() - LOG_INTERVAL;
+  }
+
+  /**
+   * Sets the number of consecutive failures after which a callback is disabled
+   *
+   * @param threshold The failure threshold, or zero to never disable failing callbacks
+   * @throws IllegalArgumentException If the threshold is negative
+   * @since 0.1.0
+   */
+  public static void setFailureThreshold(final int threshold) {
+    Preconditions.checkArgument(threshold >= 0, "Threshold must not be negative %s", threshold);
+    failureThreshold = threshold;
+  }
+
+  /**
+   * Sets the time a callback may take before it is considered to have overrun,
+   * and the number of consecutive overruns after which it is disabled
+   *
+   * @param latency The latency threshold in nanoseconds
+   * @param overruns The overrun threshold, or zero to never disable slow callbacks
+   * @throws IllegalArgumentException If the latency is not positive or the overruns are negative
+   * @since 0.1.0
+   */
+  public static void setLatencyThreshold(final long latency, final int overruns) {
+    Preconditions.checkArgument(latency > 0L, "Latency must be positive %s", latency);
+    Preconditions.checkArgument(overruns >= 0, "Overruns must not be negative %s", overruns);
+    latencyThreshold = latency;
+    overrunThreshold = overruns;
+  }
+
+  /**
+   * Determines whether the callback has been disabled
+   *
+   * @return True if the callback will no longer be called
+   */
+  @Contract(pure = true)
+  boolean isOpen() {
+    return this.open;
+  }
+
+  /**
+   * Re-enables the callback and clears its failure history
+   *
+   * @return True if the callback was disabled
+   */
+  boolean reset() {
+    final boolean open = this.open;
+    this.failures = 0;
+    this.overruns = 0;
+    this.open = false;
+    return open;
+  }
+
+  /**
+   * Records a completed call of the callback
+   *
+   * @param elapsed The time taken by the call in nanoseconds
+   */
+  void succeeded(final long elapsed) {
+    this.failures = 0;
+    if (elapsed <= latencyThreshold) {
+      this.overruns = 0;
+    } else if (++this.overruns == overrunThreshold) {
+      this.open = true;
+      LOGGER.warn("Disabled change callback {} for {} after {} consecutive calls exceeding {}ns", this.callback, this.key, this.overruns, latencyThreshold);
+    }
+  }
+
+  /**
+   * Records a failed call of the callback
+   *
+   * @param exception The exception thrown by the callback
+   */
+  void failed(final RuntimeException exception) {
+    this.overruns = 0;
+    if (++this.failures == failureThreshold) {
+      this.open = true;
+      LOGGER.error("Disabled change callback {} for {} after {} consecutive failures", this.callback, this.key, this.failures, exception);
+      return;
+    }
+    final long now = System.nanoTime();
+    if ((now - this.lastLogged) >= LOG_INTERVAL) {
+      LOGGER.error("Change callback {} for {} failed ({} similar failures suppressed)", this.callback, this.key, this.suppressed, exception);
+      this.lastLogged = now;
+      this.suppressed = 0;
+    } else {
+      ++this.suppressed;
+    }
+  }
+}
@@ -100,6 +100,30 @@ operator fun DoubleRule.setValue(any: Any?, property: KProperty<*>, value: Doubl
   set(value, null)
 }
 
+/**
+ * Gets the value of the delegate [LongRule]
+ *
+ * @since 0.1.0
+ * @see LongRule.get
+ */
+@Beta
+@JvmSynthetic
+operator fun LongRule.getValue(any: Any?, property: KProperty<*>): Long {
+  return get()
+}
+
+/**
+ * Sets the value of the delegate [LongRule] to the given [value]
+ *
+ * @since 0.1.0
+ * @see LongRule.set
+ */
+@Beta
+@JvmSynthetic
+operator fun LongRule.setValue(any: Any?, property: KProperty<*>, value: Long) {
+  set(value, null)
+}
+
 /**
  * Gets the value of the delegate [EnumRule]
  *
@@ -172,6 +196,78 @@ operator fun StringRule.setValue(any: Any?, property: KProperty<*>, value: Strin
   set(value, null)
 }
 
+/**
+ * Gets the value of the delegate [BoundedIntRule]
+ *
+ * @since 0.1.0
+ * @see BoundedIntRule.get
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedIntRule.getValue(any: Any?, property: KProperty<*>): Int {
+  return get()
+}
+
+/**
+ * Sets the value of the delegate [BoundedIntRule] to the given [value], clamped to its bounds
+ *
+ * @since 0.1.0
+ * @see BoundedIntRule.set
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedIntRule.setValue(any: Any?, property: KProperty<*>, value: Int) {
+  set(value, null)
+}
+
+/**
+ * Gets the value of the delegate [BoundedDoubleRule]
+ *
+ * @since 0.1.0
+ * @see BoundedDoubleRule.get
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedDoubleRule.getValue(any: Any?, property: KProperty<*>): Double {
+  return get()
+}
+
+/**
+ * Sets the value of the delegate [BoundedDoubleRule] to the given [value], clamped to its bounds
+ *
+ * @since 0.1.0
+ * @see BoundedDoubleRule.set
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedDoubleRule.setValue(any: Any?, property: KProperty<*>, value: Double) {
+  set(value, null)
+}
+
+/**
+ * Gets the value of the delegate [BoundedFloatRule]
+ *
+ * @since 0.1.0
+ * @see BoundedFloatRule.get
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedFloatRule.getValue(any: Any?, property: KProperty<*>): Float {
+  return get()
+}
+
+/**
+ * Sets the value of the delegate [BoundedFloatRule] to the given [value], clamped to its bounds
+ *
+ * @since 0.1.0
+ * @see BoundedFloatRule.set
+ */
+@Beta
+@JvmSynthetic
+operator fun BoundedFloatRule.setValue(any: Any?, property: KProperty<*>, value: Float) {
+  set(value, null)
+}
+
 @JvmSynthetic
 operator fun RuleKey<BooleanRule>.getValue(rules: GameRules, property: KProperty<*>): Boolean {
   return rules.getBoolean(this)
@@ -268,6 +364,42 @@ operator fun RuleKey<DoubleRule>.setValue(world: World, property: KProperty<*>,
   Rules.setDouble(world, this, value)
 }
 
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.getValue(rules: GameRules, property: KProperty<*>): Long {
+  return Rules.getLong(rules, this)
+}
+
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.getValue(server: MinecraftServer, property: KProperty<*>): Long {
+  return Rules.getLong(server, this)
+}
+
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.getValue(world: World, property: KProperty<*>): Long {
+  return Rules.getLong(world, this)
+}
+
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.setValue(rules: GameRules, property: KProperty<*>, value: Long) {
+  Rules.setLong(rules, this, value)
+}
+
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.setValue(server: MinecraftServer, property: KProperty<*>, value: Long) {
+  Rules.setLong(server, this, value)
+}
+
+@Beta
+@JvmSynthetic
+operator fun RuleKey<LongRule>.setValue(world: World, property: KProperty<*>, value: Long) {
+  Rules.setLong(world, this, value)
+}
+
 @Beta
 @JvmSynthetic
 operator fun <E : Enum<E>> RuleKey<EnumRule<E>>.getValue(rules: GameRules, property: KProperty<*>): E {
@@ -375,3 +507,129 @@ operator fun RuleKey<StringRule>.setValue(server: MinecraftServer, property: KPr
 operator fun RuleKey<StringRule>.setValue(world: World, property: KProperty<*>, value: String) {
   Rules.setString(world, this, value)
 }
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedIntRulesValue")
+operator fun RuleKey<BoundedIntRule>.getValue(rules: GameRules, property: KProperty<*>): Int {
+  return Rules.getBoundedInt(rules, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedIntServerValue")
+operator fun RuleKey<BoundedIntRule>.getValue(server: MinecraftServer, property: KProperty<*>): Int {
+  return Rules.getBoundedInt(server, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedIntWorldValue")
+operator fun RuleKey<BoundedIntRule>.getValue(world: World, property: KProperty<*>): Int {
+  return Rules.getBoundedInt(world, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedIntRulesValue")
+operator fun RuleKey<BoundedIntRule>.setValue(rules: GameRules, property: KProperty<*>, value: Int) {
+  Rules.setBoundedInt(rules, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedIntServerValue")
+operator fun RuleKey<BoundedIntRule>.setValue(server: MinecraftServer, property: KProperty<*>, value: Int) {
+  Rules.setBoundedInt(server, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedIntWorldValue")
+operator fun RuleKey<BoundedIntRule>.setValue(world: World, property: KProperty<*>, value: Int) {
+  Rules.setBoundedInt(world, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedDoubleRulesValue")
+operator fun RuleKey<BoundedDoubleRule>.getValue(rules: GameRules, property: KProperty<*>): Double {
+  return Rules.getBoundedDouble(rules, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedDoubleServerValue")
+operator fun RuleKey<BoundedDoubleRule>.getValue(server: MinecraftServer, property: KProperty<*>): Double {
+  return Rules.getBoundedDouble(server, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedDoubleWorldValue")
+operator fun RuleKey<BoundedDoubleRule>.getValue(world: World, property: KProperty<*>): Double {
+  return Rules.getBoundedDouble(world, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedDoubleRulesValue")
+operator fun RuleKey<BoundedDoubleRule>.setValue(rules: GameRules, property: KProperty<*>, value: Double) {
+  Rules.setBoundedDouble(rules, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedDoubleServerValue")
+operator fun RuleKey<BoundedDoubleRule>.setValue(server: MinecraftServer, property: KProperty<*>, value: Double) {
+  Rules.setBoundedDouble(server, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedDoubleWorldValue")
+operator fun RuleKey<BoundedDoubleRule>.setValue(world: World, property: KProperty<*>, value: Double) {
+  Rules.setBoundedDouble(world, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedFloatRulesValue")
+operator fun RuleKey<BoundedFloatRule>.getValue(rules: GameRules, property: KProperty<*>): Float {
+  return Rules.getBoundedFloat(rules, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedFloatServerValue")
+operator fun RuleKey<BoundedFloatRule>.getValue(server: MinecraftServer, property: KProperty<*>): Float {
+  return Rules.getBoundedFloat(server, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("getBoundedFloatWorldValue")
+operator fun RuleKey<BoundedFloatRule>.getValue(world: World, property: KProperty<*>): Float {
+  return Rules.getBoundedFloat(world, this)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedFloatRulesValue")
+operator fun RuleKey<BoundedFloatRule>.setValue(rules: GameRules, property: KProperty<*>, value: Float) {
+  Rules.setBoundedFloat(rules, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedFloatServerValue")
+operator fun RuleKey<BoundedFloatRule>.setValue(server: MinecraftServer, property: KProperty<*>, value: Float) {
+  Rules.setBoundedFloat(server, this, value)
+}
+
+@Beta
+@JvmSynthetic
+@JvmName("setBoundedFloatWorldValue")
+operator fun RuleKey<BoundedFloatRule>.setValue(world: World, property: KProperty<*>, value: Float) {
+  Rules.setBoundedFloat(world, this, value)
+}
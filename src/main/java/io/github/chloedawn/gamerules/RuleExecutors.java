@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used to dispatch rule changes off the server thread
+ *
+ * @author Chloe Dawn
+ */
+final class RuleExecutors {
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private RuleExecutors() {
+  }
+
+  /**
+   * The shared executor used when no executor is given. Virtual threads are used when
+   * the runtime provides them, otherwise a cached pool of daemon threads
+   *
+   * @return The default executor
+   */
+  @Contract(pure = true)
+  static Executor defaultExecutor() {
+    return DefaultExecutor.INSTANCE;
+  }
+
+  /**
+   * Wraps the given {@code executor} so that tasks run one at a time, in the order
+   * they were submitted. Exceptions thrown by a task are logged and do not prevent
+   * later tasks from running, and tasks rejected by the given executor are logged
+   * and discarded
+   *
+   * @param executor The executor to run tasks on
+   * @return A new sequential executor
+   */
+  @Contract(value = "_ -> new", pure = true)
+  static Executor sequential(final Executor executor) {
+    return new SequentialExecutor(executor);
+  }
+
+  private static final class DefaultExecutor {
+    static final Executor INSTANCE = create();
+
+    private static Executor create() {
+      final @Nullable ExecutorService virtual = virtualThreadExecutor();
+      if (virtual != null) {
+        LOGGER.debug("Using virtual threads for asynchronous rule observers");
+        return virtual;
+      }
+      final AtomicInteger count = new AtomicInteger();
+      return Executors.newCachedThreadPool(task -> {
+        final Thread thread = new Thread(task, "Rule Observer #" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    private static @Nullable ExecutorService virtualThreadExecutor() {
+      try {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+        return null;
+      }
+    }
+  }
+
+  private static final class SequentialExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor;
+    private boolean draining;
+
+    SequentialExecutor(final Executor executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+      synchronized (this.tasks) {
+        this.tasks.add(task);
+        if (this.draining) {
+          return;
+        }
+        this.draining = true;
+      }
+      this.schedule();
+    }
+
+    /**
+     * Submits a drain to the delegate executor. If the delegate rejects it, the
+     * queued tasks are discarded and the rejection is logged rather than thrown
+     * into the caller, which is usually a rule change on the server thread
+     */
+    private void schedule() {
+      try {
+        this.executor.execute(this::drain);
+      } catch (final RejectedExecutionException e) {
+        synchronized (this.tasks) {
+          this.tasks.clear();
+          this.draining = false;
+        }
+        LOGGER.error("Asynchronous rule observers were rejected by their executor", e);
+      }
+    }
+
+    private void drain() {
+      boolean completed = false;
+      try {
+        while (true) {
+          final @Nullable Runnable task;
+          synchronized (this.tasks) {
+            task = this.tasks.poll();
+            if (task == null) {
+              this.draining = false;
+              completed = true;
+              return;
+            }
+          }
+          try {
+            task.run();
+          } catch (final RuntimeException e) {
+            LOGGER.error("Asynchronous rule observer failed", e);
+          }
+        }
+      } finally {
+        if (!completed) {
+          // An error escaped a task, so hand the remaining tasks to a new drain
+          final boolean remaining;
+          synchronized (this.tasks) {
+            remaining = !this.tasks.isEmpty();
+            this.draining = remaining;
+          }
+          if (remaining) {
+            this.schedule();
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.RuleKeyAccessor;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.RuleKey;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of all registered rule keys by name and by dense slot,
+ * kept in sync with {@link GameRules} registration through a mixin
+ *
+ * @author Chloe Dawn
+ */
+@ApiStatus.Internal
+public final class RuleIndex {
+  private static final Map<String, RuleKey<?>> KEYS_BY_NAME = new HashMap<>();
+
+  private RuleIndex() {
+  }
+
+  /**
+   * Indexes the given {@code key} by its name and assigns it the next
+   * free slot. Called for every rule registered with {@link GameRules},
+   * including vanilla rules
+   *
+   * @param key The newly registered rule key
+   * @throws IllegalStateException If a key by the same name is already indexed
+   */
+  public static void add(final RuleKey<?> key) {
+    if (KEYS_BY_NAME.putIfAbsent(key.getName(), key) != null) {
+      throw new IllegalStateException("Duplicate rule key for " + key.getName());
+    }
+    accessor(key).setSlot(KEYS_BY_NAME.size() - 1);
+  }
+
+  /**
+   * Gets the number of assigned slots, which is the number of registered rules
+   *
+   * @return The slot count
+   */
+  @Contract(pure = true)
+  public static int size() {
+    return KEYS_BY_NAME.size();
+  }
+
+  /**
+   * Gets the dense slot index of the given {@code key}
+   *
+   * @param key The rule key
+   * @return The slot of the key, or {@code -1} if the key was never registered
+   */
+  @Contract(pure = true)
+  public static int slot(final RuleKey<?> key) {
+    return accessor(key).getSlot();
+  }
+
+  /**
+   * Gets the indexed rule key for the given {@code name}
+   *
+   * @param name The name of the rule
+   * @return The rule key, or {@code null} if no rule exists for the given {@code name}
+   */
+  @Contract(pure = true)
+  static @Nullable RuleKey<?> get(final String name) {
+    return KEYS_BY_NAME.get(name);
+  }
+
+  @Contract(pure = true)
+  private static RuleKeyAccessor accessor(final RuleKey<?> key) {
+    return (RuleKeyAccessor) (Object) key;
+  }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.BooleanRuleAccessor;
+import io.github.chloedawn.gamerules.mixin.access.IntRuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules.BooleanRule;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Adapters from typed rule listeners to change callbacks. Adapters compare
+ * equal when they are of the same kind and wrap the same listener with the same
+ * executor, scheduler or timing, so that duplicate detection and removal behave
+ * as they do for plain callbacks without mistaking one kind of adapter for another. Asynchronous adapters capture
+ * values on the server thread and hand them to a sequential executor, so that
+ * changes are observed in the order they were made. Weak adapters are removed
+ * once their owner has been collected and {@link #purge()} is called. Debounced
+ * and rate limited adapters call their callback from the tick timer wheel with the
+ * latest changed rule
+ *
+ * @author Chloe Dawn
+ */
+final class RuleListeners {
+  private static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+
+  private RuleListeners() {
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BooleanRule> booleanCallback(final BooleanRuleListener listener) {
+    return new ListenerCallback<BooleanRule, BooleanRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final BooleanRule rule) {
+        this.listener.onChange(server, ((BooleanRuleAccessor) rule).getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, IntRule> intCallback(final IntRuleListener listener) {
+    return new ListenerCallback<IntRule, IntRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final IntRule rule) {
+        this.listener.onChange(server, ((IntRuleAccessor) rule).getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, DoubleRule> doubleCallback(final DoubleRuleListener listener) {
+    return new ListenerCallback<DoubleRule, DoubleRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final DoubleRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, FloatRule> floatCallback(final FloatRuleListener listener) {
+    return new ListenerCallback<FloatRule, FloatRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final FloatRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, LongRule> longCallback(final LongRuleListener listener) {
+    return new ListenerCallback<LongRule, LongRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final LongRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, IntRule> filteredIntCallback(final IntRuleListener listener, final IntPredicate predicate) {
+    return new FilteredCallback<IntRule, IntRuleListener, IntPredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final IntRule rule) {
+        final int oldValue = ((IntRuleAccessor) rule).getPreviousValue();
+        final int newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, DoubleRule> filteredDoubleCallback(final DoubleRuleListener listener, final DoublePredicate predicate) {
+    return new FilteredCallback<DoubleRule, DoubleRuleListener, DoublePredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final DoubleRule rule) {
+        final double oldValue = rule.getPreviousValue();
+        final double newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, FloatRule> filteredFloatCallback(final FloatRuleListener listener, final DoublePredicate predicate) {
+    return new FilteredCallback<FloatRule, FloatRuleListener, DoublePredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final FloatRule rule) {
+        final float oldValue = rule.getPreviousValue();
+        final float newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedIntRule> boundedIntCallback(final IntRuleListener listener) {
+    return new ListenerCallback<BoundedIntRule, IntRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedIntRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedDoubleRule> boundedDoubleCallback(final DoubleRuleListener listener) {
+    return new ListenerCallback<BoundedDoubleRule, DoubleRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedDoubleRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedFloatRule> boundedFloatCallback(final FloatRuleListener listener) {
+    return new ListenerCallback<BoundedFloatRule, FloatRuleListener>(listener) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedFloatRule rule) {
+        this.listener.onChange(server, rule.getPreviousValue(), rule.get());
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedIntRule> filteredBoundedIntCallback(final IntRuleListener listener, final IntPredicate predicate) {
+    return new FilteredCallback<BoundedIntRule, IntRuleListener, IntPredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedIntRule rule) {
+        final int oldValue = rule.getPreviousValue();
+        final int newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedDoubleRule> filteredBoundedDoubleCallback(final DoubleRuleListener listener, final DoublePredicate predicate) {
+    return new FilteredCallback<BoundedDoubleRule, DoubleRuleListener, DoublePredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedDoubleRule rule) {
+        final double oldValue = rule.getPreviousValue();
+        final double newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BoundedFloatRule> filteredBoundedFloatCallback(final FloatRuleListener listener, final DoublePredicate predicate) {
+    return new FilteredCallback<BoundedFloatRule, FloatRuleListener, DoublePredicate>(listener, predicate) {
+      @Override
+      public void accept(final MinecraftServer server, final BoundedFloatRule rule) {
+        final float oldValue = rule.getPreviousValue();
+        final float newValue = rule.get();
+        if (this.predicate.test(oldValue) != this.predicate.test(newValue)) {
+          this.listener.onChange(server, oldValue, newValue);
+        }
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, BooleanRule> asyncBooleanCallback(final BooleanRuleListener listener, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<BooleanRule, BooleanRuleListener>(listener, executor) {
+      @Override
+      public void accept(final MinecraftServer server, final BooleanRule rule) {
+        final boolean oldValue = ((BooleanRuleAccessor) rule).getPreviousValue();
+        final boolean newValue = rule.get();
+        sequential.execute(() -> this.listener.onChange(server, oldValue, newValue));
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, IntRule> asyncIntCallback(final IntRuleListener listener, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<IntRule, IntRuleListener>(listener, executor) {
+      @Override
+      public void accept(final MinecraftServer server, final IntRule rule) {
+        final int oldValue = ((IntRuleAccessor) rule).getPreviousValue();
+        final int newValue = rule.get();
+        sequential.execute(() -> this.listener.onChange(server, oldValue, newValue));
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, DoubleRule> asyncDoubleCallback(final DoubleRuleListener listener, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<DoubleRule, DoubleRuleListener>(listener, executor) {
+      @Override
+      public void accept(final MinecraftServer server, final DoubleRule rule) {
+        final double oldValue = rule.getPreviousValue();
+        final double newValue = rule.get();
+        sequential.execute(() -> this.listener.onChange(server, oldValue, newValue));
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, FloatRule> asyncFloatCallback(final FloatRuleListener listener, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<FloatRule, FloatRuleListener>(listener, executor) {
+      @Override
+      public void accept(final MinecraftServer server, final FloatRule rule) {
+        final float oldValue = rule.getPreviousValue();
+        final float newValue = rule.get();
+        sequential.execute(() -> this.listener.onChange(server, oldValue, newValue));
+      }
+    };
+  }
+
+  @Contract(value = "_, _ -> new", pure = true)
+  static BiConsumer<MinecraftServer, LongRule> asyncLongCallback(final LongRuleListener listener, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<LongRule, LongRuleListener>(listener, executor) {
+      @Override
+      public void accept(final MinecraftServer server, final LongRule rule) {
+        final long oldValue = rule.getPreviousValue();
+        final long newValue = rule.get();
+        sequential.execute(() -> this.listener.onChange(server, oldValue, newValue));
+      }
+    };
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  static <T extends Rule<T>, V> BiConsumer<MinecraftServer, T> asyncCallback(final Function<? super T, ? extends V> capture, final BiConsumer<MinecraftServer, ? super V> callback, final Executor executor) {
+    final Executor sequential = RuleExecutors.sequential(executor);
+    return new ListenerCallback<T, BiConsumer<MinecraftServer, ? super V>>(callback, Arrays.asList(capture, executor)) {
+      @Override
+      public void accept(final MinecraftServer server, final T rule) {
+        final V value = capture.apply(rule);
+        sequential.execute(() -> this.listener.accept(server, value));
+      }
+    };
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  static <T extends Rule<T>> BiConsumer<MinecraftServer, T> scheduledCallback(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> callback, final RuleScheduler scheduler) {
+    return new ScheduledCallback<>(key, callback, scheduler);
+  }
+
+  /**
+   * Cancels the pending timer of the given {@code callback} if it is a delayed adapter,
+   * so that it neither fires nor holds on to the server and rule it was last called with
+   *
+   * @param callback The callback that has been removed
+   */
+  static void cancel(final BiConsumer<?, ?> callback) {
+    if (callback instanceof DelayedCallback) {
+      RuleTimers.cancel(((DelayedCallback<?>) callback).timer);
+    }
+  }
+
+  /**
+   * Re-enables the scheduled or delayed calls of the given {@code callback} if it is a
+   * scheduled or delayed adapter whose calls have been disabled by their circuit breaker
+   *
+   * @param callback The callback to be re-enabled
+   * @return True if the callback was disabled and has been re-enabled
+   */
+  static boolean reset(final BiConsumer<?, ?> callback) {
+    if (callback instanceof ScheduledCallback) {
+      return ((ScheduledCallback<?>) callback).breaker.reset();
+    }
+    if (callback instanceof DelayedCallback) {
+      return ((DelayedCallback<?>) callback).breaker.reset();
+    }
+    return false;
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  static <O, T extends Rule<T>> BiConsumer<MinecraftServer, T> weakCallback(final RuleType<?> type, final O owner, final WeakRuleCallback<? super O, T> callback) {
+    return new WeakCallback<>(type, owner, callback);
+  }
+
+  /**
+   * Removes the weak adapters of all owners collected since the last purge
+   */
+  static void purge() {
+    @Nullable Reference<?> reference;
+    while ((reference = COLLECTED.poll()) != null) {
+      final WeakOwner<?> owner = (WeakOwner<?>) reference;
+      RuleChangeCallbacks.remove(owner.type, owner.callback);
+    }
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  static <T extends Rule<T>> BiConsumer<MinecraftServer, T> debouncedCallback(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> callback, final long delay) {
+    return new DelayedCallback<T>(key, callback, delay) {
+      @Override
+      public void accept(final MinecraftServer server, final T rule) {
+        this.update(server, rule);
+        RuleTimers.schedule(this.timer, delay);
+      }
+    };
+  }
+
+  @Contract(value = "_, _, _ -> new", pure = true)
+  static <T extends Rule<T>> BiConsumer<MinecraftServer, T> rateLimitedCallback(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> callback, final long interval) {
+    return new DelayedCallback<T>(key, callback, interval) {
+      private long lastCalled = Long.MIN_VALUE;
+
+      @Override
+      public void accept(final MinecraftServer server, final T rule) {
+        final long now = RuleTimers.now();
+        this.update(server, rule);
+        if ((this.lastCalled == Long.MIN_VALUE) || ((now - this.lastCalled) >= interval)) {
+          this.fire();
+        } else {
+          RuleTimers.schedule(this.timer, (this.lastCalled + interval) - now);
+        }
+      }
+
+      @Override
+      void fire() {
+        this.lastCalled = RuleTimers.now();
+        super.fire();
+      }
+    };
+  }
+
+  /**
+   * An adapter that calls its listener in some mode, such as asynchronously on an executor
+   * or delayed by a number of ticks. Adapters are equal only if they are of the same class
+   * and both their listeners and mode parameters are equal, so the same listener may be
+   * added in several modes and each adapter is removed on its own
+   */
+  private abstract static class ListenerCallback<T extends Rule<T>, L> implements BiConsumer<MinecraftServer, T> {
+    final L listener;
+    private final @Nullable Object mode;
+
+    ListenerCallback(final L listener) {
+      this(listener, null);
+    }
+
+    ListenerCallback(final L listener, final @Nullable Object mode) {
+      this.listener = listener;
+      this.mode = mode;
+    }
+
+    @Override
+    public final boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if ((o == null) || (this.getClass() != o.getClass())) {
+        return false;
+      }
+      final ListenerCallback<?, ?> other = (ListenerCallback<?, ?>) o;
+      return this.listener.equals(other.listener) && Objects.equals(this.mode, other.mode);
+    }
+
+    @Override
+    public final int hashCode() {
+      return (31 * ((31 * this.getClass().hashCode()) + this.listener.hashCode())) + Objects.hashCode(this.mode);
+    }
+  }
+
+  /**
+   * An adapter that only calls its listener when a change flips the result of its predicate.
+   * Adapters are equal only if both their listeners and predicates are equal, so the same
+   * listener may be added under different predicates and is not mistaken for its unfiltered
+   * adapter when removed
+   */
+  private abstract static class FilteredCallback<T extends Rule<T>, L, P> implements BiConsumer<MinecraftServer, T> {
+    final L listener;
+    final P predicate;
+
+    FilteredCallback(final L listener, final P predicate) {
+      this.listener = listener;
+      this.predicate = predicate;
+    }
+
+    @Override
+    public final boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof FilteredCallback)) {
+        return false;
+      }
+      final FilteredCallback<?, ?, ?> other = (FilteredCallback<?, ?, ?>) o;
+      return this.listener.equals(other.listener) && this.predicate.equals(other.predicate);
+    }
+
+    @Override
+    public final int hashCode() {
+      return (31 * this.listener.hashCode()) + this.predicate.hashCode();
+    }
+  }
+
+  private static final class ScheduledCallback<T extends Rule<T>> extends ListenerCallback<T, BiConsumer<MinecraftServer, T>> {
+    final RuleCircuitBreaker breaker;
+    private final RuleScheduler scheduler;
+
+    ScheduledCallback(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> callback, final RuleScheduler scheduler) {
+      super(callback, scheduler);
+      this.breaker = new RuleCircuitBreaker(key, callback);
+      this.scheduler = scheduler;
+    }
+
+    @Override
+    public void accept(final MinecraftServer server, final T rule) {
+      this.scheduler.schedule(this.listener, this.breaker, server, rule);
+    }
+  }
+
+  private static final class WeakCallback<O, T extends Rule<T>> implements BiConsumer<MinecraftServer, T> {
+    private final WeakOwner<O> owner;
+    private final WeakRuleCallback<? super O, T> callback;
+
+    WeakCallback(final RuleType<?> type, final O owner, final WeakRuleCallback<? super O, T> callback) {
+      this.owner = new WeakOwner<>(owner, type, this);
+      this.callback = callback;
+    }
+
+    @Override
+    public void accept(final MinecraftServer server, final T rule) {
+      final @Nullable O owner = this.owner.get();
+      if (owner != null) {
+        this.callback.onChange(owner, server, rule);
+      }
+    }
+  }
+
+  private static final class WeakOwner<O> extends WeakReference<O> {
+    final RuleType<?> type;
+    final BiConsumer<?, ?> callback;
+
+    WeakOwner(final O owner, final RuleType<?> type, final BiConsumer<?, ?> callback) {
+      super(owner, COLLECTED);
+      this.type = type;
+      this.callback = callback;
+    }
+  }
+
+  /**
+   * An adapter that calls its callback from the tick timer wheel rather than from the change
+   * itself. Calls are guarded by the adapter's own circuit breaker, as they are made outside
+   * of the breaker of the observer that the adapter was added as
+   */
+  private abstract static class DelayedCallback<T extends Rule<T>> extends ListenerCallback<T, BiConsumer<MinecraftServer, T>> {
+    final RuleCircuitBreaker breaker;
+    final RuleTimers.Timer timer = new RuleTimers.Timer() {
+      @Override
+      void fire() {
+        DelayedCallback.this.fire();
+      }
+
+      @Override
+      void cancelled() {
+        DelayedCallback.this.server = null;
+        DelayedCallback.this.rule = null;
+      }
+
+      @Override
+      public String toString() {
+        return DelayedCallback.this.listener.toString();
+      }
+    };
+
+    private @Nullable MinecraftServer server;
+    private @Nullable T rule;
+
+    DelayedCallback(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> callback, final long ticks) {
+      super(callback, ticks);
+      this.breaker = new RuleCircuitBreaker(key, callback);
+    }
+
+    final void update(final MinecraftServer server, final T rule) {
+      this.server = server;
+      this.rule = rule;
+    }
+
+    void fire() {
+      final @Nullable MinecraftServer server = this.server;
+      final @Nullable T rule = this.rule;
+      if ((server != null) && (rule != null)) {
+        this.server = null;
+        this.rule = null;
+        final RuleCircuitBreaker breaker = this.breaker;
+        if (!breaker.isOpen()) {
+          final long start = System.nanoTime();
+          try {
+            this.listener.accept(server, rule);
+          } catch (final RuntimeException e) {
+            breaker.failed(e);
+            return;
+          }
+          breaker.succeeded(System.nanoTime() - start);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.IntRuleAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.nbt.AbstractNumberTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import net.minecraft.world.GameRules.RuleType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Map;
+
+/**
+ * Controls how rule values are persisted by {@link GameRules#toNbt()}. By default every rule is
+ * written as a string tag, as in vanilla. With typed persistence enabled, bounded int rules are
+ * written as int tags, double and float rules as double and float tags, {@link LongRule} as a
+ * long tag, and {@link EnumRule} as a compound of its ordinal and name, so that saving and loading
+ * them involves no text formatting or parsing. Other rules, including every {@link IntRule}, are
+ * still written as strings, so that vanilla rules remain readable by vanilla. Loading always
+ * accepts both the typed and the string form, and is left to vanilla unless a typed tag is present.
+ * <p>
+ * Each rule caches the tag it was last written as until it is next changed or loaded,
+ * so saving only formats the rules that have changed since the previous save.
+ * <p>
+ * The initial value of each rule type created through {@link Rules} is recorded. With sparse
+ * persistence enabled, rules of those types that hold their initial value are not written at all.
+ * Loading resets such rules to their initial value when they are absent from the tag
+ *
+ * @author Chloe Dawn
+ * @since 0.1.0
+ */
+public final class RulePersistence {
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private static final String ORDINAL = "ordinal";
+  private static final String NAME = "name";
+
+  private static volatile boolean typed;
+  private static volatile boolean sparse;
+
+  private RulePersistence() {
+  }
+
+  /**
+   * Sets whether rule values are written as typed tags. Vanilla reads a typed tag as an empty
+   * string, so rule types that vanilla also defines, such as {@link IntRule}, are always written
+   * as strings and are unaffected if this library is removed. Typed values of other rules cannot
+   * be read by versions of this library without typed persistence
+   *
+   * @param typed Whether to write typed tags
+   * @since 0.1.0
+   */
+  public static void setTyped(final boolean typed) {
+    RulePersistence.typed = typed;
+  }
+
+  /**
+   * Gets whether rule values are written as typed tags
+   *
+   * @return Whether typed persistence is enabled
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static boolean isTyped() {
+    return typed;
+  }
+
+  /**
+   * Sets whether rules holding their initial value are omitted when written. Worlds saved
+   * with sparse persistence are read by vanilla with the initial values of the omitted rules
+   *
+   * @param sparse Whether to omit rules holding their initial value
+   * @since 0.1.0
+   */
+  public static void setSparse(final boolean sparse) {
+    RulePersistence.sparse = sparse;
+  }
+
+  /**
+   * Gets whether rules holding their initial value are omitted when written
+   *
+   * @return Whether sparse persistence is enabled
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static boolean isSparse() {
+    return sparse;
+  }
+
+  /**
+   * Determines whether rule values are written by {@link #write(Map)} rather than by vanilla,
+   * which is only the case when typed or sparse persistence is enabled
+   *
+   * @return True if vanilla cannot write the rule values
+   */
+  @ApiStatus.Internal
+  @Contract(pure = true)
+  public static boolean replacesWrite() {
+    return typed || sparse;
+  }
+
+  /**
+   * Serializes the given {@code rule}, reusing the string it was last written as if it
+   * has not changed since
+   *
+   * @param rule The rule to serialize
+   * @return The serialized value of the rule
+   */
+  @ApiStatus.Internal
+  public static String serialize(final Rule<?> rule) {
+    return stringTag((RuleAccessor) rule).asString();
+  }
+
+  /**
+   * Writes the given {@code rules} to a new tag, using typed tags where possible if typed persistence
+   * is enabled, and reusing the tags of rules that have not changed since they were last written
+   *
+   * @param rules The rules by their keys
+   * @return A new tag of the rule values by their names
+   */
+  @ApiStatus.Internal
+  @Contract("_ -> new")
+  public static CompoundTag write(final Map<RuleKey<?>, Rule<?>> rules) {
+    final boolean typed = RulePersistence.typed;
+    final boolean sparse = RulePersistence.sparse;
+    final CompoundTag tag = new CompoundTag();
+    rules.forEach((key, rule) -> {
+      final RuleAccessor accessor = (RuleAccessor) rule;
+      if (!sparse || !isDefault(accessor)) {
+        tag.put(key.getName(), typed ? typedTag(accessor) : stringTag(accessor));
+      }
+    });
+    return tag;
+  }
+
+  /**
+   * Determines whether the given {@code tag} holds a typed value for one of the given
+   * {@code rules}. Tags holding only strings are left to be read by vanilla
+   *
+   * @param rules The rules by their keys
+   * @param tag The tag of rule values by their names
+   * @return True if a rule value is not a string tag
+   */
+  @ApiStatus.Internal
+  @Contract(pure = true)
+  public static boolean isTyped(final Map<RuleKey<?>, Rule<?>> rules, final CompoundTag tag) {
+    for (final RuleKey<?> key : rules.keySet()) {
+      final @Nullable Tag value = tag.get(key.getName());
+      if ((value != null) && !(value instanceof StringTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resets those of the given {@code rules} that are absent from the given {@code tag} to their
+   * initial value if it was recorded. Called after vanilla has read the rules present in the tag
+   *
+   * @param rules The rules by their keys
+   * @param tag The tag of rule values by their names
+   */
+  @ApiStatus.Internal
+  public static void readAbsent(final Map<RuleKey<?>, Rule<?>> rules, final CompoundTag tag) {
+    rules.forEach((key, rule) -> {
+      if (!tag.contains(key.getName())) {
+        readDefault((RuleAccessor) rule);
+      }
+    });
+  }
+
+  /**
+   * Reads the values of the given {@code rules} from the given {@code tag}, accepting both typed
+   * tags and the string tags written by vanilla. Rules absent from the tag are reset to their
+   * initial value if it was recorded, and otherwise keep their values
+   *
+   * @param rules The rules by their keys
+   * @param tag The tag of rule values by their names
+   */
+  @ApiStatus.Internal
+  public static void read(final Map<RuleKey<?>, Rule<?>> rules, final CompoundTag tag) {
+    rules.forEach((key, rule) -> {
+      final @Nullable Tag value = tag.get(key.getName());
+      if (value == null) {
+        readDefault((RuleAccessor) rule);
+      } else if (value instanceof StringTag) {
+        ((RuleAccessor) rule).invokeDeserialize(value.asString());
+      } else if (!read(rule, value)) {
+        LOGGER.warn("Ignoring unexpected tag for rule {} {}", key.getName(), value);
+      }
+    });
+  }
+
+  /**
+   * Records the serialized initial value of rules of the given {@code type}
+   *
+   * @param type The rule type to record the default value of
+   * @param <T> The rule type
+   * @return The given rule type
+   */
+  @Contract("_ -> param1")
+  static <T extends Rule<T>> RuleType<T> recordDefault(final RuleType<T> type) {
+    RuleTypeMetadata.setDefaultValue(type, ((RuleAccessor) type.createRule()).invokeSerialize());
+    return type;
+  }
+
+  /**
+   * Checks whether the given rule holds its recorded initial value. A rule that has never
+   * been changed or loaded holds its initial value without having to be serialized
+   *
+   * @param rule The rule to check
+   * @return True if the rule holds its initial value
+   */
+  private static boolean isDefault(final RuleAccessor rule) {
+    final @Nullable String defaultValue = RuleTypeMetadata.of(rule.getType()).defaultValue();
+    return (defaultValue != null) && ((rule.getModCount() == 0L) || defaultValue.equals(stringTag(rule).asString()));
+  }
+
+  private static void readDefault(final RuleAccessor rule) {
+    final @Nullable String defaultValue = RuleTypeMetadata.of(rule.getType()).defaultValue();
+    if (defaultValue != null && rule.getModCount() != 0L) {
+      rule.invokeDeserialize(defaultValue);
+    }
+  }
+
+  /**
+   * Discards the tags the given rule was last written as. Called whenever the rule is changed or loaded
+   *
+   * @param rule The rule that was changed
+   */
+  static void invalidate(final RuleAccessor rule) {
+    rule.setStringTag(null);
+    rule.setTypedTag(null);
+  }
+
+  private static StringTag stringTag(final RuleAccessor rule) {
+    @Nullable StringTag tag = rule.getStringTag();
+    if (tag == null) {
+      tag = StringTag.of(rule.invokeSerialize());
+      rule.setStringTag(tag);
+    }
+    return tag;
+  }
+
+  private static Tag typedTag(final RuleAccessor rule) {
+    @Nullable Tag tag = rule.getTypedTag();
+    if (tag == null) {
+      tag = encode((Rule<?>) rule);
+      rule.setTypedTag(tag);
+    }
+    // Compound tags are mutable, so the cached tag is never handed out itself
+    return (tag instanceof CompoundTag) ? tag.copy() : tag;
+  }
+
+  private static Tag encode(final Rule<?> rule) {
+    if (rule instanceof DoubleRule) {
+      return DoubleTag.of(((DoubleRule) rule).get());
+    } else if (rule instanceof FloatRule) {
+      return FloatTag.of(((FloatRule) rule).get());
+    } else if (rule instanceof LongRule) {
+      return LongTag.of(((LongRule) rule).get());
+    } else if (rule instanceof EnumRule) {
+      final Enum<?> value = ((EnumRule<?>) rule).get();
+      final CompoundTag tag = new CompoundTag();
+      tag.putInt(ORDINAL, value.ordinal());
+      tag.putString(NAME, value.name());
+      return tag;
+    } else if (rule instanceof BoundedIntRule) {
+      return IntTag.of(((BoundedIntRule) rule).get());
+    } else if (rule instanceof BoundedDoubleRule) {
+      return DoubleTag.of(((BoundedDoubleRule) rule).get());
+    } else if (rule instanceof BoundedFloatRule) {
+      return FloatTag.of(((BoundedFloatRule) rule).get());
+    }
+    return stringTag((RuleAccessor) rule);
+  }
+
+  private static boolean read(final Rule<?> rule, final Tag tag) {
+    if (tag instanceof AbstractNumberTag) {
+      final AbstractNumberTag number = (AbstractNumberTag) tag;
+      if (rule instanceof IntRule) {
+        readInt((IntRule) rule, number.getInt());
+      } else if (rule instanceof DoubleRule) {
+        ((DoubleRule) rule).read(number.getDouble());
+      } else if (rule instanceof FloatRule) {
+        ((FloatRule) rule).read(number.getFloat());
+      } else if (rule instanceof LongRule) {
+        ((LongRule) rule).read(number.getLong());
+      } else if (rule instanceof BoundedIntRule) {
+        ((BoundedIntRule) rule).read(number.getInt());
+      } else if (rule instanceof BoundedDoubleRule) {
+        ((BoundedDoubleRule) rule).read(number.getDouble());
+      } else if (rule instanceof BoundedFloatRule) {
+        ((BoundedFloatRule) rule).read(number.getFloat());
+      } else {
+        return false;
+      }
+      return true;
+    }
+    if (tag instanceof CompoundTag && rule instanceof EnumRule) {
+      final CompoundTag compound = (CompoundTag) tag;
+      ((EnumRule<?>) rule).read(compound.getInt(ORDINAL), compound.getString(NAME));
+      return true;
+    }
+    return false;
+  }
+
+  private static void readInt(final IntRule rule, final int value) {
+    final IntRuleAccessor accessor = (IntRuleAccessor) rule;
+    accessor.setPreviousValue(rule.get());
+    final @Nullable IntRuleValidator validator = RuleValidation.validator(((RuleAccessor) rule).getType(), IntRuleValidator.class);
+    try {
+      accessor.setValue((validator != null) ? validator.validate(value) : value);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected int {} {}", value, e.getMessage());
+    }
+  }
+}
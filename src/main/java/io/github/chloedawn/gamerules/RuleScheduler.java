@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.BiConsumer;
+
+/**
+ * A scheduler for expensive change callbacks, which are queued when a rule changes and
+ * run at the end of following ticks within a per-tick time budget. Once the budget of a
+ * tick has been spent, the remaining callbacks are carried over to the next tick. At least
+ * one callback is run every tick, so the queue always makes progress. Each callback is run
+ * behind its own {@link RuleCircuitBreaker}, so exceptions thrown by a callback are logged
+ * and do not affect the remaining callbacks, and a callback that keeps failing or overrunning
+ * is disabled like any other change callback. Callbacks observe
+ * the value of the rule at the time they are run rather than at the time of the change.
+ * Queued callbacks are discarded when the server stops. A scheduler that is no longer
+ * needed should be closed, which also discards its queue
+ *
+ * @author Chloe Dawn
+ * @see Rules#observe(RuleKey, RuleScheduler, BiConsumer)
+ * @since 0.1.0
+ */
+public final class RuleScheduler implements AutoCloseable {
+  private final Queue<Task<?>> tasks = new ArrayDeque<>();
+  private volatile long budget;
+  private long ticks;
+  private boolean closed;
+
+  @Contract(pure = true)
+  private RuleScheduler(final long budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Creates a new scheduler with the given per-tick time {@code budget}
+   *
+   * @param budget The time in nanoseconds that callbacks may run for each tick
+   * @return A new scheduler
+   * @throws IllegalArgumentException If the budget is not positive
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleScheduler create(final long budget) {
+    Preconditions.checkArgument(budget > 0L, "Budget must be positive %s", budget);
+    final RuleScheduler scheduler = new RuleScheduler(budget);
+    RuleTicks.add(scheduler);
+    return scheduler;
+  }
+
+  /**
+   * Gets the time that callbacks may run for each tick
+   *
+   * @return The per-tick time budget in nanoseconds
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public long budget() {
+    return this.budget;
+  }
+
+  /**
+   * Sets the time that callbacks may run for each tick
+   *
+   * @param budget The per-tick time budget in nanoseconds
+   * @throws IllegalArgumentException If the budget is not positive
+   * @since 0.1.0
+   */
+  public void setBudget(final long budget) {
+    Preconditions.checkArgument(budget > 0L, "Budget must be positive %s", budget);
+    this.budget = budget;
+  }
+
+  /**
+   * Gets the number of callbacks waiting to be run
+   *
+   * @return The queue depth
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public int queueDepth() {
+    synchronized (this.tasks) {
+      return this.tasks.size();
+    }
+  }
+
+  /**
+   * Gets how far behind this scheduler is running, as the number of ticks
+   * that the oldest waiting callback has been queued for
+   *
+   * @return The lag in ticks, or zero if no callbacks are waiting
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public long lag() {
+    synchronized (this.tasks) {
+      final @Nullable Task<?> task = this.tasks.peek();
+      return (task != null) ? (this.ticks - task.tick) : 0L;
+    }
+  }
+
+  /**
+   * Queues the given {@code callback} to be run for the given {@code server} and {@code rule}
+   *
+   * @param callback The callback to be run
+   * @param breaker The circuit breaker guarding the callback
+   * @param server The server that the given rule is bound to
+   * @param rule The rule that was changed
+   */
+  <T extends Rule<T>> void schedule(final BiConsumer<MinecraftServer, T> callback, final RuleCircuitBreaker breaker, final MinecraftServer server, final T rule) {
+    synchronized (this.tasks) {
+      if (!this.closed) {
+        this.tasks.add(new Task<>(callback, breaker, server, rule, this.ticks));
+      }
+    }
+  }
+
+  /**
+   * Stops running this scheduler at the end of every tick and discards its queued callbacks.
+   * Callbacks observed on a closed scheduler are no longer queued, but remain added until their
+   * subscriptions are closed. Closing a closed scheduler has no effect
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public void close() {
+    RuleTicks.remove(this);
+    synchronized (this.tasks) {
+      this.closed = true;
+      this.tasks.clear();
+    }
+  }
+
+  /**
+   * Runs queued callbacks until the budget of the current tick is spent
+   */
+  void tick() {
+    final long start = System.nanoTime();
+    final long budget = this.budget;
+    while (true) {
+      final @Nullable Task<?> task;
+      synchronized (this.tasks) {
+        task = this.tasks.poll();
+      }
+      if (task == null) {
+        break;
+      }
+      final RuleCircuitBreaker breaker = task.breaker;
+      if (!breaker.isOpen()) {
+        final long begin = System.nanoTime();
+        try {
+          task.run();
+          breaker.succeeded(System.nanoTime() - begin);
+        } catch (final RuntimeException e) {
+          breaker.failed(e);
+        }
+      }
+      if (System.nanoTime() - start >= budget) {
+        break;
+      }
+    }
+    synchronized (this.tasks) {
+      ++this.ticks;
+    }
+  }
+
+  /**
+   * Discards all queued callbacks
+   */
+  void clear() {
+    synchronized (this.tasks) {
+      this.tasks.clear();
+    }
+  }
+
+  private static final class Task<T extends Rule<T>> {
+    private final BiConsumer<MinecraftServer, T> callback;
+    private final RuleCircuitBreaker breaker;
+    private final MinecraftServer server;
+    private final T rule;
+    private final long tick;
+
+    Task(final BiConsumer<MinecraftServer, T> callback, final RuleCircuitBreaker breaker, final MinecraftServer server, final T rule, final long tick) {
+      this.callback = callback;
+      this.breaker = breaker;
+      this.server = server;
+      this.rule = rule;
+      this.tick = tick;
+    }
+
+    void run() {
+      this.callback.accept(this.server, this.rule);
+    }
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.BooleanRule;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * An immutable view of the values of a {@link GameRules} instance at a given version.
+ * Snapshots are safe to share between threads and may be read without synchronization
+ *
+ * @author Chloe Dawn
+ * @see Rules#snapshot(GameRules)
+ * @since 0.1.0
+ */
+public final class RuleSnapshot {
+  private final long version;
+  private final long[] primitives;
+  private final @Nullable Object[] objects;
+
+  @Contract(pure = true)
+  private RuleSnapshot(final long version, final long[] primitives, final @Nullable Object[] objects) {
+    this.version = version;
+    this.primitives = primitives;
+    this.objects = objects;
+  }
+
+  /**
+   * Publishes a snapshot of the given {@code rules}, capturing a new one if they have
+   * been modified since the last was published. This must only be called from the
+   * thread that modifies the rules
+   *
+   * @param rules The game rules instance
+   * @return The published snapshot
+   */
+  static RuleSnapshot publish(final GameRules rules) {
+    final GameRulesAccessor accessor = (GameRulesAccessor) rules;
+    final long version = RuleVersions.of(rules);
+    @Nullable RuleSnapshot snapshot = accessor.getSnapshot();
+    if ((snapshot == null) || (snapshot.version() != version)) {
+      snapshot = capture(rules, version);
+      accessor.setSnapshot(snapshot);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Captures the current values of the given {@code rules}
+   *
+   * @param rules The game rules instance
+   * @param version The modification count of the rules prior to capturing
+   * @return A new snapshot
+   */
+  @Contract("_, _ -> new")
+  static RuleSnapshot capture(final GameRules rules, final long version) {
+    final Rule<?>[] rulesBySlot = ((GameRulesAccessor) rules).getRulesBySlot();
+    final long[] primitives = new long[rulesBySlot.length];
+    final @Nullable Object[] objects = new Object[rulesBySlot.length];
+    for (int slot = 0; slot < rulesBySlot.length; ++slot) {
+      final Rule<?> rule = rulesBySlot[slot];
+      if (rule instanceof BooleanRule) {
+        primitives[slot] = ((BooleanRule) rule).get() ? 1L : 0L;
+      } else if (rule instanceof IntRule) {
+        primitives[slot] = ((IntRule) rule).get();
+      } else if (rule instanceof DoubleRule) {
+        primitives[slot] = Double.doubleToRawLongBits(((DoubleRule) rule).get());
+      } else if (rule instanceof LongRule) {
+        primitives[slot] = ((LongRule) rule).get();
+      } else if (rule instanceof FloatRule) {
+        primitives[slot] = Float.floatToRawIntBits(((FloatRule) rule).get());
+      } else if (rule instanceof EnumRule) {
+        objects[slot] = ((EnumRule<?>) rule).get();
+      } else if (rule instanceof StringRule) {
+        objects[slot] = ((StringRule) rule).get();
+      } else if (rule instanceof BoundedIntRule) {
+        primitives[slot] = ((BoundedIntRule) rule).get();
+      } else if (rule instanceof BoundedDoubleRule) {
+        primitives[slot] = Double.doubleToRawLongBits(((BoundedDoubleRule) rule).get());
+      } else if (rule instanceof BoundedFloatRule) {
+        primitives[slot] = Float.floatToRawIntBits(((BoundedFloatRule) rule).get());
+      }
+    }
+    return new RuleSnapshot(version, primitives, objects);
+  }
+
+  /**
+   * Gets the version of this snapshot. Versions increase monotonically
+   * with each modification of the game rules they were captured from
+   *
+   * @return The version of this snapshot
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public long version() {
+    return this.version;
+  }
+
+  /**
+   * Gets the captured value of the given {@link BooleanRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code boolean} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public boolean getBoolean(final RuleKey<BooleanRule> key) {
+    return this.primitives[this.slot(key)] != 0L;
+  }
+
+  /**
+   * Gets the captured value of the given {@link IntRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code int} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public int getInt(final RuleKey<IntRule> key) {
+    return (int) this.primitives[this.slot(key)];
+  }
+
+  /**
+   * Gets the captured value of the given {@link DoubleRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code double} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public double getDouble(final RuleKey<DoubleRule> key) {
+    return Double.longBitsToDouble(this.primitives[this.slot(key)]);
+  }
+
+  /**
+   * Gets the captured value of the given {@link EnumRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@link E} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  public <E extends Enum<E>> E getEnum(final RuleKey<EnumRule<E>> key) {
+    return (E) this.objects[this.slot(key)];
+  }
+
+  /**
+   * Gets the captured value of the given {@link FloatRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code float} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public float getFloat(final RuleKey<FloatRule> key) {
+    return Float.intBitsToFloat((int) this.primitives[this.slot(key)]);
+  }
+
+  /**
+   * Gets the captured value of the given {@link LongRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code long} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public long getLong(final RuleKey<LongRule> key) {
+    return this.primitives[this.slot(key)];
+  }
+
+  /**
+   * Gets the captured value of the given {@link BoundedIntRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code int} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public int getBoundedInt(final RuleKey<BoundedIntRule> key) {
+    return (int) this.primitives[this.slot(key)];
+  }
+
+  /**
+   * Gets the captured value of the given {@link BoundedDoubleRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code double} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public double getBoundedDouble(final RuleKey<BoundedDoubleRule> key) {
+    return Double.longBitsToDouble(this.primitives[this.slot(key)]);
+  }
+
+  /**
+   * Gets the captured value of the given {@link BoundedFloatRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@code float} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public float getBoundedFloat(final RuleKey<BoundedFloatRule> key) {
+    return Float.intBitsToFloat((int) this.primitives[this.slot(key)]);
+  }
+
+  /**
+   * Gets the captured value of the given {@link StringRule} key
+   *
+   * @param key The key representing the rule
+   * @return The {@link String} value of the rule
+   * @throws NoSuchRuleException If the rule was not captured
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public String getString(final RuleKey<StringRule> key) {
+    return (String) this.objects[this.slot(key)];
+  }
+
+  @Contract(pure = true)
+  private int slot(final RuleKey<?> key) {
+    final int slot = RuleIndex.slot(key);
+    if (slot < 0 || slot >= this.primitives.length) {
+      throw new NoSuchRuleException(key);
+    }
+    return slot;
+  }
+}
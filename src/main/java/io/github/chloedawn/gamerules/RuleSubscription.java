@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.world.GameRules.RuleType;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A handle for a change callback added by one of the {@code observe} methods of {@link Rules}.
+ * Closing the subscription removes the callback, after which it is no longer called
+ *
+ * @author Chloe Dawn
+ * @see Rules#observe
+ * @since 0.1.0
+ */
+public final class RuleSubscription implements AutoCloseable {
+  private final RuleType<?> type;
+  private final BiConsumer<?, ?> callback;
+  private final boolean conflated;
+
+  @Contract(pure = true)
+  RuleSubscription(final RuleType<?> type, final BiConsumer<?, ?> callback, final boolean conflated) {
+    this.type = type;
+    this.callback = callback;
+    this.conflated = conflated;
+  }
+
+  /**
+   * Determines whether the callback is still added. A subscription becomes inactive once
+   * closed, once the callback is removed by other means, or once the referent of a weak
+   * callback has been collected and purged
+   *
+   * @return True if the callback is still added
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public boolean isActive() {
+    return RuleChangeCallbacks.contains(this.type, this.callback);
+  }
+
+  /**
+   * Removes the callback. Closing an inactive subscription has no effect
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public void close() {
+    if (this.conflated) {
+      RuleChangeCallbacks.removeConflated(this.type, this.callback);
+    } else {
+      RuleChangeCallbacks.remove(this.type, this.callback);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.Rule;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Per-tick bookkeeping for rule changes. Rules with conflated callbacks are collected
+ * into a dirty set as they change, and each is dispatched once at the end of the tick
+ * with its latest value. The timer wheel is then advanced, rule schedulers are given
+ * their share of the tick, callbacks of collected weak owners are purged, and a
+ * snapshot of the server's rules is published for other threads. All of this state is
+ * discarded when the server stops
+ *
+ * @author Chloe Dawn
+ */
+@ApiStatus.Internal
+public final class RuleTicks {
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final Object LOCK = new Object();
+
+  private static Set<Rule<?>> dirty = new LinkedHashSet<>();
+  private static Set<Rule<?>> dispatching = new LinkedHashSet<>();
+  private static volatile boolean pending;
+  private static volatile RuleScheduler[] schedulers = new RuleScheduler[0];
+
+  private RuleTicks() {
+  }
+
+  /**
+   * Adds the given {@code scheduler} to be run at the end of every tick
+   *
+   * @param scheduler The scheduler to be added
+   */
+  static void add(final RuleScheduler scheduler) {
+    synchronized (LOCK) {
+      final RuleScheduler[] current = schedulers;
+      final RuleScheduler[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = scheduler;
+      schedulers = updated;
+    }
+  }
+
+  /**
+   * Removes the given {@code scheduler}, so that it is no longer run at the end of every tick
+   *
+   * @param scheduler The scheduler to be removed
+   */
+  static void remove(final RuleScheduler scheduler) {
+    synchronized (LOCK) {
+      final RuleScheduler[] current = schedulers;
+      for (int i = 0; i < current.length; ++i) {
+        if (current[i] == scheduler) {
+          final RuleScheduler[] updated = new RuleScheduler[current.length - 1];
+          System.arraycopy(current, 0, updated, 0, i);
+          System.arraycopy(current, i + 1, updated, i, updated.length - i);
+          schedulers = updated;
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks the given {@code rule} as changed during the current tick
+   *
+   * @param rule The rule that was changed
+   */
+  static void changed(final Rule<?> rule) {
+    synchronized (LOCK) {
+      dirty.add(rule);
+      pending = true;
+    }
+  }
+
+  /**
+   * Called at the end of every server tick. Conflated callbacks are called once for each
+   * rule changed during the tick, in the order the rules were first changed. Rules changed
+   * by these callbacks are dispatched at the end of the next tick. Schedulers are run afterwards
+   *
+   * @param server The server that was ticked
+   */
+  public static void tick(final MinecraftServer server) {
+    if (pending) {
+      final Set<Rule<?>> rules;
+      synchronized (LOCK) {
+        rules = dirty;
+        dirty = dispatching;
+        dispatching = rules;
+        pending = false;
+      }
+      try {
+        for (final Iterator<Rule<?>> it = rules.iterator(); it.hasNext(); ) {
+          final Rule<?> rule = it.next();
+          it.remove();
+          try {
+            dispatch(server, rule);
+          } catch (final RuntimeException e) {
+            LOGGER.error("Conflated change callbacks for {} failed", rule, e);
+          }
+        }
+      } finally {
+        if (!rules.isEmpty()) {
+          // An error escaped a dispatch, so carry the remaining rules over to the next tick
+          synchronized (LOCK) {
+            dirty.addAll(rules);
+            pending = true;
+          }
+          rules.clear();
+        }
+      }
+    }
+    RuleTimers.tick();
+    final RuleScheduler[] schedulers = RuleTicks.schedulers;
+    for (int i = 0; i < schedulers.length; ++i) {
+      schedulers[i].tick();
+    }
+    RuleListeners.purge();
+    final GameRules rules = server.getGameRules();
+    RuleSnapshot.publish(rules);
+    ((GameRulesAccessor) rules).setOwner(Thread.currentThread());
+  }
+
+  /**
+   * Called when a server has stopped. Rules still waiting for their conflated callbacks,
+   * pending delayed callbacks and callbacks queued on schedulers are discarded, as they are
+   * bound to the stopped server, so that nothing is carried over into the next server
+   * started by this JVM
+   */
+  public static void stop() {
+    synchronized (LOCK) {
+      dirty.clear();
+      dispatching.clear();
+      pending = false;
+    }
+    RuleTimers.clear();
+    final RuleScheduler[] schedulers = RuleTicks.schedulers;
+    for (int i = 0; i < schedulers.length; ++i) {
+      schedulers[i].clear();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Rule<T>> void dispatch(final MinecraftServer server, final Rule<?> rule) {
+    RuleChangeCallbacks.<T>of(((RuleAccessor) rule).getType()).callConflated(server, (T) rule);
+  }
+}
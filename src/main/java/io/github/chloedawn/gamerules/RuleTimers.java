@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timer wheel advanced once per server tick, used to delay change callbacks by
+ * a number of ticks without a thread or task per callback. Timers are only ever accessed
+ * from the server thread. Rescheduling a pending timer only moves its deadline; the timer
+ * is moved to the slot of its new deadline when its current slot is reached. Cancelled
+ * timers are left in their slot and skipped when it is reached. Pending timers are
+ * cancelled when the server stops, but the tick count keeps advancing across servers
+ * so that deadlines derived from it remain ordered
+ *
+ * @author Chloe Dawn
+ */
+final class RuleTimers {
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final int SLOTS = 256;
+  private static final int MASK = SLOTS - 1;
+
+  @SuppressWarnings("unchecked")
+  private static final List<Timer>[] WHEEL = (List<Timer>[]) new List<?>[SLOTS];
+  private static List<Timer> expired = new ArrayList<>();
+  private static long now;
+
+  static {
+    for (int i = 0; i < SLOTS; ++i) {
+      WHEEL[i] = new ArrayList<>();
+    }
+  }
+
+  private RuleTimers() {
+  }
+
+  /**
+   * Gets the number of ticks the wheel has been advanced by
+   *
+   * @return The current tick
+   */
+  static long now() {
+    return now;
+  }
+
+  /**
+   * Schedules the given {@code timer} to fire the given number of ticks from now. If the timer
+   * is already pending, its deadline is replaced, and may only be moved later
+   *
+   * @param timer The timer to schedule
+   * @param delay The delay in ticks, at least one
+   */
+  static void schedule(final Timer timer, final long delay) {
+    timer.deadline = now + delay;
+    if (!timer.pending) {
+      timer.pending = true;
+      add(timer);
+    }
+  }
+
+  /**
+   * Cancels the given {@code timer} if it is pending, and discards any state it has
+   * captured for when it fires
+   *
+   * @param timer The timer to cancel
+   */
+  static void cancel(final Timer timer) {
+    timer.pending = false;
+    timer.slot = null;
+    timer.cancelled();
+  }
+
+  /**
+   * Cancels every pending timer. Called when the server stops, as pending timers
+   * hold the server and rules that they were scheduled for
+   */
+  static void clear() {
+    for (int i = 0; i < SLOTS; ++i) {
+      final List<Timer> slot = WHEEL[i];
+      for (int j = 0; j < slot.size(); ++j) {
+        final Timer timer = slot.get(j);
+        if (timer.slot == slot) {
+          cancel(timer);
+        }
+      }
+      slot.clear();
+    }
+  }
+
+  /**
+   * Advances the wheel by one tick and fires any timers whose deadline has been reached
+   */
+  static void tick() {
+    final long tick = ++now;
+    final List<Timer> slot = WHEEL[(int) (tick & MASK)];
+    if (slot.isEmpty()) {
+      return;
+    }
+    final List<Timer> timers = slot;
+    WHEEL[(int) (tick & MASK)] = expired;
+    expired = timers;
+    try {
+      for (int i = 0; i < timers.size(); ++i) {
+        final Timer timer = timers.get(i);
+        if (timer.slot != timers) {
+          continue;
+        }
+        if (timer.deadline > tick) {
+          add(timer);
+        } else {
+          timer.pending = false;
+          timer.slot = null;
+          try {
+            timer.fire();
+          } catch (final RuntimeException e) {
+            LOGGER.error("Delayed change callback {} failed", timer, e);
+          }
+        }
+      }
+    } finally {
+      timers.clear();
+    }
+  }
+
+  private static void add(final Timer timer) {
+    final List<Timer> slot = WHEEL[(int) (timer.deadline & MASK)];
+    slot.add(timer);
+    timer.slot = slot;
+  }
+
+  /**
+   * A timer that may be scheduled on the wheel
+   */
+  abstract static class Timer {
+    private long deadline;
+    private boolean pending;
+    private @Nullable List<Timer> slot;
+
+    /**
+     * Invoked on the server thread when the deadline of this timer has been reached
+     */
+    abstract void fire();
+
+    /**
+     * Invoked when this timer is cancelled, to discard any state captured for firing
+     */
+    void cancelled() {
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.BooleanRuleAccessor;
+import io.github.chloedawn.gamerules.mixin.access.IntRuleAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.BooleanRule;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A batch of rule changes whose change callbacks are deferred until the batch is committed,
+ * at which point each rule whose value differs from its value before the batch is notified
+ * once, with that value as its previous value
+ *
+ * @author Chloe Dawn
+ * @see Rules#transaction
+ * @since 0.1.0
+ */
+public final class RuleTransaction {
+  private final GameRules rules;
+  private final Map<RuleKey<?>, Change> changes = new LinkedHashMap<>();
+
+  @Contract(pure = true)
+  RuleTransaction(final GameRules rules) {
+    this.rules = rules;
+  }
+
+  /**
+   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@code boolean} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setBoolean(final RuleKey<BooleanRule> key, final boolean value) {
+    final BooleanRule rule = Rules.rule(this.rules, key);
+    final boolean original = rule.get();
+    if (Rules.update(rule, value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (rule.get() == original) {
+          return false;
+        }
+        ((BooleanRuleAccessor) rule).setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setInt(final RuleKey<IntRule> key, final int value) {
+    final IntRule rule = Rules.rule(this.rules, key);
+    final int original = rule.get();
+    if (Rules.update(rule, value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (rule.get() == original) {
+          return false;
+        }
+        ((IntRuleAccessor) rule).setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@code double} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setDouble(final RuleKey<DoubleRule> key, final double value) {
+    final DoubleRule rule = Rules.rule(this.rules, key);
+    final double original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (Double.doubleToLongBits(rule.get()) == Double.doubleToLongBits(original)) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link EnumRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@link E} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public <E extends Enum<E>> void setEnum(final RuleKey<EnumRule<E>> key, final E value) {
+    final EnumRule<E> rule = Rules.rule(this.rules, key);
+    final E original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> rule.get() != original));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link FloatRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@code float} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setFloat(final RuleKey<FloatRule> key, final float value) {
+    final FloatRule rule = Rules.rule(this.rules, key);
+    final float original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (Float.floatToIntBits(rule.get()) == Float.floatToIntBits(original)) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link LongRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@code long} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setLong(final RuleKey<LongRule> key, final long value) {
+    final LongRule rule = Rules.rule(this.rules, key);
+    final long original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (rule.get() == original) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link BoundedIntRule} key to the given {@code value},
+   * clamped to the bounds of the rule
+   *
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setBoundedInt(final RuleKey<BoundedIntRule> key, final int value) {
+    final BoundedIntRule rule = Rules.rule(this.rules, key);
+    final int original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (rule.get() == original) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link BoundedDoubleRule} key to the given {@code value},
+   * clamped to the bounds of the rule
+   *
+   * @param key The rule's key
+   * @param value The {@code double} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setBoundedDouble(final RuleKey<BoundedDoubleRule> key, final double value) {
+    final BoundedDoubleRule rule = Rules.rule(this.rules, key);
+    final double original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (Double.doubleToLongBits(rule.get()) == Double.doubleToLongBits(original)) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link BoundedFloatRule} key to the given {@code value},
+   * clamped to the bounds of the rule
+   *
+   * @param key The rule's key
+   * @param value The {@code float} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setBoundedFloat(final RuleKey<BoundedFloatRule> key, final float value) {
+    final BoundedFloatRule rule = Rules.rule(this.rules, key);
+    final float original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> {
+        if (Float.floatToIntBits(rule.get()) == Float.floatToIntBits(original)) {
+          return false;
+        }
+        rule.setPreviousValue(original);
+        return true;
+      }));
+    }
+  }
+
+  /**
+   * Sets the value of the given {@link StringRule} key to the given {@code value}
+   *
+   * @param key The rule's key
+   * @param value The {@link String} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "this")
+  public void setString(final RuleKey<StringRule> key, final String value) {
+    final StringRule rule = Rules.rule(this.rules, key);
+    final String original = rule.get();
+    if (rule.update(value, null) && !this.changes.containsKey(key)) {
+      this.changes.put(key, new Change(rule, () -> !rule.get().equals(original)));
+    }
+  }
+
+  /**
+   * Gets the keys of all rules changed so far in this transaction, in the order they were first changed.
+   * Rules that were only set to their current value are not included, and once the transaction has
+   * been committed, neither are rules that were set back to their value before the transaction
+   *
+   * @return An unmodifiable view of the changed keys
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public Set<RuleKey<?>> changedKeys() {
+    return Collections.unmodifiableSet(this.changes.keySet());
+  }
+
+  /**
+   * Invokes the change callbacks of every rule whose value differs from its value before
+   * the transaction exactly once, discarding the rules that were set back to that value
+   *
+   * @param server The server to call back to
+   */
+  void commit(final MinecraftServer server) {
+    final Iterator<Change> changes = this.changes.values().iterator();
+    while (changes.hasNext()) {
+      final Change change = changes.next();
+      if (change.settle.getAsBoolean()) {
+        ((RuleAccessor) change.rule).invokeChanged(server);
+      } else {
+        changes.remove();
+      }
+    }
+  }
+
+  /**
+   * A rule changed by this transaction, with a function that checks whether its value differs from
+   * its value before the transaction, and if so restores that value as the rule's previous value
+   */
+  private static final class Change {
+    private final Rule<?> rule;
+    private final BooleanSupplier settle;
+
+    @Contract(pure = true)
+    private Change(final Rule<?> rule, final BooleanSupplier settle) {
+      this.rule = rule;
+      this.settle = settle;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import io.github.chloedawn.gamerules.mixin.access.RuleTypeAccessor;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Data class for holding the metadata of a rule type that is not tied to change dispatch,
+ * namely its validator chain, its command suggestions and its serialized initial value
+ *
+ * @author Chloe Dawn
+ * @see RuleChangeCallbacks
+ */
+@ApiStatus.Internal
+public final class RuleTypeMetadata {
+  /**
+   * The validator chain of this rule type, bound once when the type is created
+   */
+  private volatile @Nullable RuleValidation<?> validation;
+
+  /**
+   * The provider of command suggestions for values of this rule type
+   */
+  private volatile @Nullable SuggestionProvider<ServerCommandSource> suggestions;
+
+  /**
+   * The serialized initial value of rules of this type, if recorded when the type was created
+   */
+  private volatile @Nullable String defaultValue;
+
+  /**
+   * Gets the metadata of the given {@link RuleType}
+   *
+   * @param type The rule type to get the metadata of
+   * @return The rule type's metadata
+   */
+  @Contract(pure = true)
+  public static RuleTypeMetadata of(final RuleType<?> type) {
+    return ((RuleTypeAccessor<?>) type).getMetadata();
+  }
+
+  /**
+   * Binds the given validator chain to this rule type
+   *
+   * @param validation The validator chain
+   * @throws IllegalStateException If a validator chain has already been bound
+   */
+  synchronized void bindValidation(final RuleValidation<?> validation) {
+    Preconditions.checkState(this.validation == null, "Validation already bound");
+    this.validation = validation;
+  }
+
+  /**
+   * Gets the validator chain of this rule type
+   *
+   * @return The validator chain, or {@code null} if the type does not support validators
+   */
+  @Contract(pure = true)
+  @Nullable RuleValidation<?> validation() {
+    return this.validation;
+  }
+
+  /**
+   * Sets the provider of command suggestions for values of the given {@link RuleType}
+   *
+   * @param type The rule type to suggest values for
+   * @param suggestions The suggestion provider
+   */
+  static void setSuggestions(final RuleType<?> type, final SuggestionProvider<ServerCommandSource> suggestions) {
+    of(type).suggestions = suggestions;
+  }
+
+  /**
+   * Gets the provider of command suggestions for values of this rule type
+   *
+   * @return The suggestion provider, or {@code null} if the argument type's own suggestions are used
+   */
+  @Contract(pure = true)
+  public @Nullable SuggestionProvider<ServerCommandSource> suggestions() {
+    return this.suggestions;
+  }
+
+  /**
+   * Sets the serialized initial value of rules of the given {@link RuleType}
+   *
+   * @param type The rule type to record the default value of
+   * @param defaultValue The serialized default value
+   */
+  static void setDefaultValue(final RuleType<?> type, final String defaultValue) {
+    of(type).defaultValue = defaultValue;
+  }
+
+  /**
+   * Gets the serialized initial value of rules of this type
+   *
+   * @return The serialized default value, or {@code null} if it was not recorded
+   */
+  @Contract(pure = true)
+  @Nullable String defaultValue() {
+    return this.defaultValue;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import com.google.common.base.Preconditions;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * The validator chain of a rule type, composed from the added validators in the order they
+ * were added. A chain is bound to its rule type when the type is created, together with the
+ * validator interface for the type's values and the function composing two validators, so
+ * that validators are only ever added and read as that interface
+ *
+ * @param <V> The validator type
+ * @author Chloe Dawn
+ * @see RuleTypeMetadata
+ */
+@ApiStatus.Internal
+public final class RuleValidation<V> {
+  private final Class<? super V> validatorType;
+  private final BinaryOperator<V> composer;
+  private volatile @Nullable V validator;
+
+  @Contract(pure = true)
+  private RuleValidation(final Class<? super V> validatorType, final BinaryOperator<V> composer) {
+    this.validatorType = validatorType;
+    this.composer = composer;
+  }
+
+  /**
+   * Binds an empty validator chain to the given newly created {@link RuleType}
+   *
+   * @param type The rule type to bind the chain to
+   * @param validatorType The validator interface for values of the rule type
+   * @param composer The function composing the current validator with an added validator
+   * @param <T> The rule instance type
+   * @param <V> The validator type
+   * @return The given rule type
+   * @throws IllegalStateException If a validator chain has already been bound to the rule type
+   */
+  @Contract("_, _, _ -> param1")
+  public static <T extends Rule<T>, V> RuleType<T> bind(final RuleType<T> type, final Class<? super V> validatorType, final BinaryOperator<V> composer) {
+    RuleTypeMetadata.of(type).bindValidation(new RuleValidation<>(validatorType, composer));
+    return type;
+  }
+
+  /**
+   * Appends the given {@code validator} to the validator chain of the given {@link RuleType}
+   *
+   * @param type The rule type to add the validator to
+   * @param validatorType The validator interface of the given validator
+   * @param validator The validator to be added
+   * @param <V> The validator type
+   * @throws IllegalStateException If the rule type has no validator chain for the given interface
+   */
+  static <V> void add(final RuleType<?> type, final Class<? super V> validatorType, final V validator) {
+    final @Nullable RuleValidation<V> validation = of(type, validatorType);
+    Preconditions.checkState(validation != null, "Rule type does not support validators");
+    validation.append(validator);
+  }
+
+  /**
+   * Gets the composed validator of the given {@link RuleType}
+   *
+   * @param type The rule type to get the validator of
+   * @param validatorType The validator interface for values of the rule type
+   * @param <V> The validator type
+   * @return The composed validator, or {@code null} if no validators have been added
+   * @throws IllegalStateException If the rule type is validated by another interface
+   */
+  @Contract(pure = true)
+  public static <V> @Nullable V validator(final RuleType<?> type, final Class<? super V> validatorType) {
+    final @Nullable RuleValidation<V> validation = of(type, validatorType);
+    return (validation != null) ? validation.validator : null;
+  }
+
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  private static <V> @Nullable RuleValidation<V> of(final RuleType<?> type, final Class<? super V> validatorType) {
+    final @Nullable RuleValidation<?> validation = RuleTypeMetadata.of(type).validation();
+    if (validation == null) {
+      return null;
+    }
+    if (validation.validatorType != validatorType) {
+      throw new IllegalStateException("Rule type is validated by " + validation.validatorType.getName() + ", not " + validatorType.getName());
+    }
+    // The chain was bound with the same validator interface, which determines its validator type
+    return (RuleValidation<V>) validation;
+  }
+
+  private synchronized void append(final V validator) {
+    final @Nullable V current = this.validator;
+    this.validator = (current != null) ? this.composer.apply(current, validator) : validator;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.Rule;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Tracks modifications of {@link GameRules} instances and their rules, so that derived
+ * state such as snapshots, caches and written tags can be rebuilt only after a change.
+ * Counts are only ever incremented by the thread that owns the rules
+ *
+ * @author Chloe Dawn
+ */
+@ApiStatus.Internal
+public final class RuleVersions {
+  private RuleVersions() {
+  }
+
+  /**
+   * Marks the given {@code rule} as modified. Called whenever {@link Rule#changed(MinecraftServer)}
+   * is invoked, before any callbacks, regardless of whether a server is present
+   *
+   * @param rule The rule that was changed
+   */
+  public static void modified(final Rule<?> rule) {
+    final RuleAccessor accessor = (RuleAccessor) rule;
+    accessor.setModCount(accessor.getModCount() + 1L);
+    RulePersistence.invalidate(accessor);
+    RuleChangeCallbacks.of(accessor.getType()).invalidateCaches();
+    final @Nullable GameRules owner = accessor.getOwner();
+    if (owner != null) {
+      increment((GameRulesAccessor) owner);
+    }
+  }
+
+  /**
+   * Marks the given {@code rules} and all of their rules as modified. Called after rule
+   * values are loaded, as loading does not invoke {@link Rule#changed(MinecraftServer)}
+   *
+   * @param rules The game rules that were loaded
+   */
+  public static void loaded(final GameRules rules) {
+    final GameRulesAccessor accessor = (GameRulesAccessor) rules;
+    for (final Rule<?> rule : accessor.getRulesBySlot()) {
+      final RuleAccessor ruleAccessor = (RuleAccessor) rule;
+      ruleAccessor.setModCount(ruleAccessor.getModCount() + 1L);
+      RulePersistence.invalidate(ruleAccessor);
+      RuleChangeCallbacks.of(ruleAccessor.getType()).invalidateCaches();
+    }
+    increment(accessor);
+  }
+
+  /**
+   * Gets the number of modifications made to the given {@code rules}
+   *
+   * @param rules The game rules instance
+   * @return The modification count
+   */
+  @Contract(pure = true)
+  static long of(final GameRules rules) {
+    return ((GameRulesAccessor) rules).getModCount();
+  }
+
+  /**
+   * Gets the number of modifications made to the given {@code rule}
+   *
+   * @param rule The rule instance
+   * @return The modification count
+   */
+  @Contract(pure = true)
+  static long of(final Rule<?> rule) {
+    return ((RuleAccessor) rule).getModCount();
+  }
+
+  private static void increment(final GameRulesAccessor accessor) {
+    accessor.setModCount(accessor.getModCount() + 1L);
+  }
+}
@@ -17,7 +17,7 @@
 package io.github.chloedawn.gamerules;
 
 import com.google.common.annotations.Beta;
-import com.google.common.collect.MoreCollectors;
+import com.google.common.base.Preconditions;
 import com.mojang.brigadier.arguments.ArgumentType;
 import io.github.chloedawn.gamerules.mixin.access.BooleanRuleAccessor;
 import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
@@ -41,8 +41,13 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -77,7 +82,20 @@ public static Stream<RuleKey<?>> ruleKeys() {
    * @since 0.1.0
    */
   public static @MaybePresent Optional<RuleKey<?>> find(final String name) {
-    return ruleKeys().filter(k -> name.equals(k.getName())).collect(MoreCollectors.toOptional());
+    return Optional.ofNullable(findOrNull(name));
+  }
+
+  /**
+   * Searches registered game rules for a rule matching the given {@code name}.
+   * Unlike {@link #find(String)}, this method does not allocate
+   *
+   * @param name The name of the game rule
+   * @return The rule key given {@code name}, or {@code null} if not present
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static @Nullable RuleKey<?> findOrNull(final String name) {
+    return RuleIndex.get(name);
   }
 
   /**
@@ -89,7 +107,11 @@ public static Stream<RuleKey<?>> ruleKeys() {
    * @since 0.1.0
    */
   public static RuleKey<?> get(final String name) {
-    return find(name).orElseThrow(() -> new NoSuchRuleException(name));
+    final @Nullable RuleKey<?> key = findOrNull(name);
+    if (key == null) {
+      throw new NoSuchRuleException(name);
+    }
+    return key;
   }
 
   /**
@@ -103,7 +125,7 @@ public static RuleKey<?> get(final String name) {
    */
   @SuppressWarnings("unchecked")
   public static <T extends Rule<T>> @MaybePresent Optional<RuleKey<T>> findUnchecked(final String name) {
-    return find(name).map(k -> (RuleKey<T>) k);
+    return Optional.ofNullable((RuleKey<T>) findOrNull(name));
   }
 
   /**
@@ -116,8 +138,9 @@ public static RuleKey<?> get(final String name) {
    * @throws NoSuchRuleException If no rule exists for the given {@code name}
    * @since 0.1.0
    */
+  @SuppressWarnings("unchecked")
   public static <T extends Rule<T>> RuleKey<T> getUnchecked(final String name) {
-    return Rules.<T>findUnchecked(name).orElseThrow(() -> new NoSuchRuleException(name));
+    return (RuleKey<T>) get(name);
   }
 
   /**
@@ -125,842 +148,2085 @@ public static <T extends Rule<T>> RuleKey<T> getUnchecked(final String name) {
    *
    * @param key The rule key to add a callback for
    * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
    * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  public static <T extends Rule<T>> void observe(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
+  public static <T extends Rule<T>> RuleSubscription observe(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
     final @Nullable RuleType<?> type = ruleTypes().get(key);
     if (type == null) {
       throw new NoSuchRuleException(key);
     }
     RuleChangeCallbacks.add(key, type, changeCallback);
+    return new RuleSubscription(type, changeCallback, false);
   }
 
   /**
-   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code changeCallback} to the registered rule type of the given {@code key}, to be
+   * queued on the given {@code scheduler} when a rule changes and run within its per-tick time budget.
+   * Runs of the callback are guarded by their own circuit breaker, which is also reset by
+   * {@link #resetObserver(RuleKey, BiConsumer)}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a callback for
+   * @param scheduler The scheduler to queue the callback on
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static RuleKey<BooleanRule> createBooleanRule(final String name, final boolean initialValue, final BiConsumer<MinecraftServer, BooleanRule> changeCallback) {
-    return register(name, createBooleanRule(initialValue, changeCallback));
+  public static <T extends Rule<T>> RuleSubscription observe(final RuleKey<T> key, final RuleScheduler scheduler, final BiConsumer<MinecraftServer, T> changeCallback) {
+    return observe(key, RuleListeners.scheduledCallback(key, changeCallback, scheduler));
   }
 
   /**
-   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code changeCallback} to the registered rule type of the given {@code key}, debounced
+   * so that it is invoked once the given number of ticks have passed without a further change, with the
+   * latest changed rule. Delayed calls are guarded by their own circuit breaker, which is also reset by
+   * {@link #resetObserver(RuleKey, BiConsumer)}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a callback for
+   * @param delay The number of ticks to wait after the last change
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws IllegalArgumentException If the delay is not positive
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<BooleanRule> createBooleanRule(final String name, final boolean initialValue) {
-    return register(name, createBooleanRule(initialValue, (server, rule) -> {}));
+  public static <T extends Rule<T>> RuleSubscription observeDebounced(final RuleKey<T> key, final long delay, final BiConsumer<MinecraftServer, T> changeCallback) {
+    Preconditions.checkArgument(delay > 0L, "Delay must be positive %s", delay);
+    return observe(key, RuleListeners.debouncedCallback(key, changeCallback, delay));
   }
 
   /**
-   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with an initial value of {@code false}
+   * Adds the given {@code changeCallback} to the registered rule type of the given {@code key}, rate
+   * limited so that it is invoked at most once in the given number of ticks. A change made within the
+   * interval is not dropped, but delivered with the latest changed rule once the interval has passed.
+   * Both immediate and delayed calls are guarded by their own circuit breaker, which is also reset by
+   * {@link #resetObserver(RuleKey, BiConsumer)}
    *
-   * @param name The unique name of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a callback for
+   * @param interval The minimum number of ticks between invocations
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws IllegalArgumentException If the interval is not positive
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<BooleanRule> createBooleanRule(final String name, final BiConsumer<MinecraftServer, BooleanRule> changeCallback) {
-    return register(name, createBooleanRule(false, changeCallback));
+  public static <T extends Rule<T>> RuleSubscription observeRateLimited(final RuleKey<T> key, final long interval, final BiConsumer<MinecraftServer, T> changeCallback) {
+    Preconditions.checkArgument(interval > 0L, "Interval must be positive %s", interval);
+    return observe(key, RuleListeners.rateLimitedCallback(key, changeCallback, interval));
   }
 
   /**
-   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with an initial value of {@code false}
+   * Adds the given {@code changeCallback} to the registered rule type of the given {@code key}, held
+   * weakly by the given {@code owner}. The callback is skipped while the owner is unreachable, and is
+   * removed once the owner has been collected. The callback must not capture the owner itself
    *
-   * @param name The unique name of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a callback for
+   * @param owner The owner of the callback
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_ -> new")
-  public static RuleKey<BooleanRule> createBooleanRule(final String name) {
-    return register(name, createBooleanRule(false, (server, rule) -> {}));
+  public static <O, T extends Rule<T>> RuleSubscription observeWeak(final RuleKey<T> key, final O owner, final WeakRuleCallback<? super O, T> changeCallback) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleListeners.purge();
+    return observe(key, RuleListeners.weakCallback(type, owner, changeCallback));
   }
 
   /**
-   * Creates and registers a new {@link IntRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link BooleanRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code boolean}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static RuleKey<IntRule> createIntRule(final String name, final int initialValue, final BiConsumer<MinecraftServer, IntRule> changeCallback) {
-    return register(name, createIntRule(initialValue, changeCallback));
+  public static RuleSubscription observe(final RuleKey<BooleanRule> key, final BooleanRuleListener listener) {
+    return observe(key, RuleListeners.booleanCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link IntRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link IntRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code int}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<IntRule> createIntRule(final String name, final int initialValue) {
-    return register(name, createIntRule(initialValue, (server, rule) -> {}));
+  public static RuleSubscription observe(final RuleKey<IntRule> key, final IntRuleListener listener) {
+    return observe(key, RuleListeners.intCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link IntRule} by the given {@code name}, with an initial value of {@code 0}
+   * Adds the given {@code listener} to the registered {@link DoubleRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code double}
    *
-   * @param name The unique name of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<IntRule> createIntRule(final String name, final BiConsumer<MinecraftServer, IntRule> changeCallback) {
-    return register(name, createIntRule(0, changeCallback));
+  public static RuleSubscription observe(final RuleKey<DoubleRule> key, final DoubleRuleListener listener) {
+    return observe(key, RuleListeners.doubleCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link IntRule} by the given {@code name}, with an initial value of {@code 0}
+   * Adds the given {@code listener} to the registered {@link FloatRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code float}
    *
-   * @param name The unique name of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_ -> new")
-  public static RuleKey<IntRule> createIntRule(final String name) {
-    return register(name, createIntRule(0, (server, rule) -> {}));
+  public static RuleSubscription observe(final RuleKey<FloatRule> key, final FloatRuleListener listener) {
+    return observe(key, RuleListeners.floatCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link LongRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code long}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static RuleKey<DoubleRule> createDoubleRule(final String name, final double initialValue, final BiConsumer<MinecraftServer, DoubleRule> changeCallback) {
-    return register(name, DoubleRule.create(initialValue, changeCallback));
+  public static RuleSubscription observe(final RuleKey<LongRule> key, final LongRuleListener listener) {
+    return observe(key, RuleListeners.longCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link IntRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code int} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<DoubleRule> createDoubleRule(final String name, final double initialValue) {
-    return register(name, DoubleRule.create(initialValue, (server, rule) -> {}));
+  public static RuleSubscription observeWhen(final RuleKey<IntRule> key, final IntPredicate predicate, final IntRuleListener listener) {
+    return observe(key, RuleListeners.filteredIntCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with an initial value of {@code 0.0}
+   * Adds the given {@code listener} to the registered {@link DoubleRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code double} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<DoubleRule> createDoubleRule(final String name, final BiConsumer<MinecraftServer, DoubleRule> changeCallback) {
-    return register(name, DoubleRule.create(0.0, changeCallback));
+  public static RuleSubscription observeWhen(final RuleKey<DoubleRule> key, final DoublePredicate predicate, final DoubleRuleListener listener) {
+    return observe(key, RuleListeners.filteredDoubleCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with an initial value of {@code 0.0}
+   * Adds the given {@code listener} to the registered {@link FloatRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code float} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_ -> new")
-  public static RuleKey<DoubleRule> createDoubleRule(final String name) {
-    return register(name, DoubleRule.create(0.0, (server, rule) -> {}));
+  public static RuleSubscription observeWhen(final RuleKey<FloatRule> key, final DoublePredicate predicate, final FloatRuleListener listener) {
+    return observe(key, RuleListeners.filteredFloatCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
-   * with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedIntRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code int}
    *
-   * @param name The unique name of the rule
-   * @param valueType The enum's type
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _, _ -> new")
-  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final E initialValue, final BiConsumer<MinecraftServer, EnumRule<E>> changeCallback) {
-    return register(name, EnumRule.create(valueType, initialValue, changeCallback));
+  public static RuleSubscription observeBounded(final RuleKey<BoundedIntRule> key, final IntRuleListener listener) {
+    return observe(key, RuleListeners.boundedIntCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
-   * with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedDoubleRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code double}
    *
-   * @param name The unique name of the rule
-   * @param valueType The enum's type
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final E initialValue) {
-    return register(name, EnumRule.create(valueType, initialValue, (server, rule) -> {}));
+  public static RuleSubscription observeBounded(final RuleKey<BoundedDoubleRule> key, final DoubleRuleListener listener) {
+    return observe(key, RuleListeners.boundedDoubleCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
-   * with an initial value of {@link EnumRule#initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedFloatRule} type of the given {@code key}.
+   * The listener receives the value held before and after each change as a {@code float}
    *
-   * @param name The unique name of the rule
-   * @param valueType The enum's type
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final BiConsumer<MinecraftServer, EnumRule<E>> changeCallback) {
-    final @Nullable E value = EnumRule.initialValue(valueType);
-    if (value == null) {
-      throw new IllegalArgumentException("No constants in enum " + valueType);
-    }
-    return register(name, EnumRule.create(valueType, value, changeCallback));
+  public static RuleSubscription observeBounded(final RuleKey<BoundedFloatRule> key, final FloatRuleListener listener) {
+    return observe(key, RuleListeners.boundedFloatCallback(listener));
   }
 
   /**
-   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
-   * with an initial value of {@link EnumRule#initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedIntRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code int} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @param valueType The enum's type
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType) {
-    final @Nullable E value = EnumRule.initialValue(valueType);
-    if (value == null) {
-      throw new IllegalArgumentException("No constants in enum " + valueType);
-    }
-    return register(name, EnumRule.create(valueType, value, (server, rule) -> {}));
+  public static RuleSubscription observeBoundedWhen(final RuleKey<BoundedIntRule> key, final IntPredicate predicate, final IntRuleListener listener) {
+    return observe(key, RuleListeners.filteredBoundedIntCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link FloatRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedDoubleRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code double} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static RuleKey<FloatRule> createFloatRule(final String name, final float initialValue, final BiConsumer<MinecraftServer, FloatRule> changeCallback) {
-    return register(name, FloatRule.create(initialValue, changeCallback));
+  public static RuleSubscription observeBoundedWhen(final RuleKey<BoundedDoubleRule> key, final DoublePredicate predicate, final DoubleRuleListener listener) {
+    return observe(key, RuleListeners.filteredBoundedDoubleCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link FloatRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link BoundedFloatRule} type of the given {@code key}, to be
+   * invoked only when a change flips the result of the given {@code predicate}. The predicate is tested
+   * against the old and new {@code float} values of each change without boxing either.
+   * The same listener may be added more than once with different predicates
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param predicate The predicate tested against each value
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<FloatRule> createFloatRule(final String name, final float initialValue) {
-    return register(name, FloatRule.create(initialValue, (server, rule) -> {}));
+  public static RuleSubscription observeBoundedWhen(final RuleKey<BoundedFloatRule> key, final DoublePredicate predicate, final FloatRuleListener listener) {
+    return observe(key, RuleListeners.filteredBoundedFloatCallback(listener, predicate));
   }
 
   /**
-   * Creates and registers a new {@link FloatRule} by the given {@code name}, with an initial value of {@code 0.0F}
+   * Adds the given {@code listener} to the registered {@link IntRule} type of the given {@code key}, to be
+   * invoked only when a change moves the value across the given {@code threshold}, in either direction.
+   * A value is above the threshold when it is strictly greater than it
    *
-   * @param name The unique name of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param threshold The threshold to observe crossings of
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<FloatRule> createFloatRule(final String name, final BiConsumer<MinecraftServer, FloatRule> changeCallback) {
-    return register(name, FloatRule.create(0.0F, changeCallback));
+  public static RuleSubscription observeCrossing(final RuleKey<IntRule> key, final int threshold, final IntRuleListener listener) {
+    return observeWhen(key, value -> value > threshold, listener);
   }
 
   /**
-   * Creates and registers a new {@link FloatRule} by the given {@code name}, with an initial value of {@code 0.0F}
+   * Adds the given {@code listener} to the registered {@link DoubleRule} type of the given {@code key}, to be
+   * invoked only when a change moves the value across the given {@code threshold}, in either direction.
+   * A value is above the threshold when it is strictly greater than it
    *
-   * @param name The unique name of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param threshold The threshold to observe crossings of
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
    * @since 0.1.0
    */
-  @Contract("_ -> new")
-  public static RuleKey<FloatRule> createFloatRule(final String name) {
-    return register(name, FloatRule.create(0.0F, (server, rule) -> {}));
+  public static RuleSubscription observeCrossing(final RuleKey<DoubleRule> key, final double threshold, final DoubleRuleListener listener) {
+    return observeWhen(key, value -> value > threshold, listener);
   }
 
   /**
-   * Creates and registers a new {@link StringRule} by the given {@code name}, with the given {@code initialValue}
+   * Adds the given {@code listener} to the registered {@link FloatRule} type of the given {@code key}, to be
+   * invoked only when a change moves the value across the given {@code threshold}, in either direction.
+   * A value is above the threshold when it is strictly greater than it
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param key The rule key to add a listener for
+   * @param threshold The threshold to observe crossings of
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeCrossing(final RuleKey<FloatRule> key, final float threshold, final FloatRuleListener listener) {
+    return observeWhen(key, value -> value > threshold, listener);
+  }
+
+  /**
+   * The executor used for asynchronous observers by default. Virtual threads are used
+   * when the runtime provides them, otherwise a shared pool of daemon threads
+   *
+   * @return The default asynchronous observer executor
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static Executor asyncExecutor() {
+    return RuleExecutors.defaultExecutor();
+  }
+
+  /**
+   * Adds the given {@code changeCallback} to the registered rule type of the given {@code key}, to be
+   * invoked on the given {@code executor} rather than the server thread. The {@code capture} function is
+   * applied to the rule when the change is made and must return an immutable value, which is then passed
+   * to the callback. Changes are delivered to the callback in order. The server must not be accessed from
+   * the callback other than through {@link MinecraftServer#execute}
+   *
+   * @param key The rule key to add a callback for
+   * @param executor The executor to invoke the callback on
+   * @param capture The function capturing the value of the rule
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static <T extends Rule<T>, V> RuleSubscription observeAsync(final RuleKey<T> key, final Executor executor, final Function<? super T, ? extends V> capture, final BiConsumer<MinecraftServer, ? super V> changeCallback) {
+    return observe(key, RuleListeners.<T, V>asyncCallback(capture, changeCallback, executor));
+  }
+
+  /**
+   * Adds the given {@code listener} to the registered {@link BooleanRule} type of the given {@code key},
+   * to be invoked on the given {@code executor} rather than the server thread. The old and new values
+   * are captured when the change is made, and changes are delivered to the listener in order
+   *
+   * @param key The rule key to add a listener for
+   * @param executor The executor to invoke the listener on
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeAsync(final RuleKey<BooleanRule> key, final Executor executor, final BooleanRuleListener listener) {
+    return observe(key, RuleListeners.asyncBooleanCallback(listener, executor));
+  }
+
+  /**
+   * Adds the given {@code listener} to the registered {@link IntRule} type of the given {@code key},
+   * to be invoked on the given {@code executor} rather than the server thread. The old and new values
+   * are captured when the change is made, and changes are delivered to the listener in order
+   *
+   * @param key The rule key to add a listener for
+   * @param executor The executor to invoke the listener on
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeAsync(final RuleKey<IntRule> key, final Executor executor, final IntRuleListener listener) {
+    return observe(key, RuleListeners.asyncIntCallback(listener, executor));
+  }
+
+  /**
+   * Adds the given {@code listener} to the registered {@link DoubleRule} type of the given {@code key},
+   * to be invoked on the given {@code executor} rather than the server thread. The old and new values
+   * are captured when the change is made, and changes are delivered to the listener in order
+   *
+   * @param key The rule key to add a listener for
+   * @param executor The executor to invoke the listener on
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeAsync(final RuleKey<DoubleRule> key, final Executor executor, final DoubleRuleListener listener) {
+    return observe(key, RuleListeners.asyncDoubleCallback(listener, executor));
+  }
+
+  /**
+   * Adds the given {@code listener} to the registered {@link FloatRule} type of the given {@code key},
+   * to be invoked on the given {@code executor} rather than the server thread. The old and new values
+   * are captured when the change is made, and changes are delivered to the listener in order
+   *
+   * @param key The rule key to add a listener for
+   * @param executor The executor to invoke the listener on
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeAsync(final RuleKey<FloatRule> key, final Executor executor, final FloatRuleListener listener) {
+    return observe(key, RuleListeners.asyncFloatCallback(listener, executor));
+  }
+
+  /**
+   * Adds the given {@code listener} to the registered {@link LongRule} type of the given {@code key},
+   * to be invoked on the given {@code executor} rather than the server thread. The old and new values
+   * are captured when the change is made, and changes are delivered to the listener in order
+   *
+   * @param key The rule key to add a listener for
+   * @param executor The executor to invoke the listener on
+   * @param listener The listener to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see #asyncExecutor()
+   * @since 0.1.0
+   */
+  public static RuleSubscription observeAsync(final RuleKey<LongRule> key, final Executor executor, final LongRuleListener listener) {
+    return observe(key, RuleListeners.asyncLongCallback(listener, executor));
+  }
+
+  /**
+   * Removes the given {@code changeCallback} from the registered rule type of the given {@code key}
+   *
+   * @param key The rule key to remove a callback from
+   * @param changeCallback The callback to be removed
+   * @return True if the callback was present and has been removed
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static <T extends Rule<T>> boolean unobserve(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    return RuleChangeCallbacks.remove(type, changeCallback);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link IntRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static void validate(final RuleKey<IntRule> key, final IntRuleValidator validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, IntRuleValidator.class, validator);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link DoubleRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static void validate(final RuleKey<DoubleRule> key, final DoubleRuleValidator validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, DoubleRuleValidator.class, validator);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link FloatRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static void validate(final RuleKey<FloatRule> key, final FloatRuleValidator validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, FloatRuleValidator.class, validator);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link LongRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static void validate(final RuleKey<LongRule> key, final LongRuleValidator validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, LongRuleValidator.class, validator);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link EnumRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static <E extends Enum<E>> void validateEnum(final RuleKey<EnumRule<E>> key, final RuleValidator<E> validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, RuleValidator.class, validator);
+  }
+
+  /**
+   * Adds the given {@code validator} to the registered {@link StringRule} type of the given {@code key}.
+   * Validators are applied in the order they were added, before a value is written by a setter, a
+   * command, or deserialization, and may adjust or reject the value before any callback observes it
+   *
+   * @param key The rule key to add a validator for
+   * @param validator The validator to be added
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static void validateString(final RuleKey<StringRule> key, final RuleValidator<String> validator) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleValidation.add(type, RuleValidator.class, validator);
+  }
+
+  /**
+   * Re-enables the given {@code changeCallback} of the registered rule type of the given {@code key},
+   * if it has been disabled after repeatedly failing or exceeding the latency threshold
+   *
+   * @param key The rule key of the callback
+   * @param changeCallback The callback to be re-enabled
+   * @return True if the callback was disabled and has been re-enabled
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @see RuleCircuitBreaker
+   * @since 0.1.0
+   */
+  public static <T extends Rule<T>> boolean resetObserver(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    return RuleChangeCallbacks.reset(type, changeCallback);
+  }
+
+  /**
+   * Adds the given conflated {@code changeCallback} to the registered rule type of the given {@code key}.
+   * Rather than on every change, the callback is invoked once at the end of each tick in which a rule of
+   * the type was changed, observing only the latest value
+   *
+   * @param key The rule key to add a callback for
+   * @param changeCallback The callback to be added
+   * @return A subscription handle for removing the added callback
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static <T extends Rule<T>> RuleSubscription observeConflated(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    RuleChangeCallbacks.addConflated(key, type, changeCallback);
+    return new RuleSubscription(type, changeCallback, true);
+  }
+
+  /**
+   * Removes the given conflated {@code changeCallback} from the registered rule type of the given {@code key}
+   *
+   * @param key The rule key to remove a callback from
+   * @param changeCallback The callback to be removed
+   * @return True if the callback was present and has been removed
+   * @throws NoSuchRuleException If no rule exists for the given {@code key}
+   * @since 0.1.0
+   */
+  public static <T extends Rule<T>> boolean unobserveConflated(final RuleKey<T> key, final BiConsumer<MinecraftServer, T> changeCallback) {
+    final @Nullable RuleType<?> type = ruleTypes().get(key);
+    if (type == null) {
+      throw new NoSuchRuleException(key);
+    }
+    return RuleChangeCallbacks.removeConflated(type, changeCallback);
+  }
+
+  /**
+   * Applies the changes made by the given {@code transaction} to the game rules of the given
+   * {@code server}, deferring change callbacks until the transaction has completed. Each rule
+   * whose value then differs from its value before the transaction is notified once, with that
+   * value as its old value, regardless of how many times it was set. Rules set back to their
+   * original value are not notified. Changes are still notified if the transaction throws
+   *
+   * @param server The server containing the game rules
+   * @param transaction The transaction setting rule values
+   * @return The keys of the changed rules, in the order they were first changed
+   * @since 0.1.0
+   */
+  public static Set<RuleKey<?>> transaction(final MinecraftServer server, final Consumer<RuleTransaction> transaction) {
+    return transaction(server, transaction, (s, keys) -> {});
+  }
+
+  /**
+   * Applies the changes made by the given {@code transaction} to the game rules of the given
+   * {@code server}, deferring change callbacks until the transaction has completed. Each rule
+   * whose value then differs from its value before the transaction is notified once, with that
+   * value as its old value, regardless of how many times it was set, after which the given
+   * {@code commitCallback} receives the keys of all changed rules. Rules set back to their original
+   * value are not notified. Changes are still notified if the transaction throws, but the commit
+   * callback is not invoked
+   *
+   * @param server The server containing the game rules
+   * @param transaction The transaction setting rule values
+   * @param commitCallback The callback invoked once all changed rules have been notified
+   * @return The keys of the changed rules, in the order they were first changed
+   * @since 0.1.0
+   */
+  public static Set<RuleKey<?>> transaction(final MinecraftServer server, final Consumer<RuleTransaction> transaction, final BiConsumer<MinecraftServer, Set<RuleKey<?>>> commitCallback) {
+    final RuleTransaction tx = new RuleTransaction(server.getGameRules());
+    try {
+      transaction.accept(tx);
+    } finally {
+      tx.commit(server);
+    }
+    final Set<RuleKey<?>> changedKeys = tx.changedKeys();
+    commitCallback.accept(server, changedKeys);
+    return changedKeys;
+  }
+
+  /**
+   * Creates a cache for a value derived from the rules of the given {@code keys} by the given
+   * {@code function}. The value is computed lazily and only recomputed after one of the given
+   * rules has changed or the rules have been loaded, so reading it is a single field access.
+   * The function must not read any rules other than those of the given keys. The cache
+   * should be closed once it is no longer needed
+   *
+   * @param function The function computing the derived value
+   * @param keys The keys of the rules that the value is derived from
+   * @return A new rule cache
+   * @throws NoSuchRuleException If no rule exists for one of the given {@code keys}
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static <V> RuleCache<V> cache(final Function<GameRules, V> function, final RuleKey<?>... keys) {
+    final RuleType<?>[] types = new RuleType<?>[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      final @Nullable RuleType<?> type = ruleTypes().get(keys[i]);
+      if (type == null) {
+        throw new NoSuchRuleException(keys[i]);
+      }
+      types[i] = type;
+    }
+    final RuleCache<V> cache = new RuleCache<>(function, types);
+    for (final RuleType<?> type : types) {
+      RuleChangeCallbacks.addCache(type, cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Gets the modification version of the given {@code rules}. The version increases
+   * whenever any rule is changed or the rules are loaded, so that derived values can
+   * be invalidated by comparing against a previously observed version
+   *
+   * @param rules The game rules instance
+   * @return The current version of the game rules
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static long version(final GameRules rules) {
+    return RuleVersions.of(rules);
+  }
+
+  /**
+   * Gets the modification version of the rule for the given {@code key} within the given
+   * {@code rules}. The version increases whenever that rule is changed or the rules are loaded
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The current version of the rule
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static <T extends Rule<T>> long version(final GameRules rules, final RuleKey<T> key) {
+    return RuleVersions.of(rule(rules, key));
+  }
+
+  /**
+   * Gets an immutable snapshot of the values of the given {@code rules}. Snapshots are
+   * cached, and a new snapshot is only captured once the rules have been modified, so
+   * repeated calls between modifications return the same instance. Snapshots are only
+   * captured on the thread that modifies the rules; once the rules have been ticked by
+   * a server, other threads receive the snapshot published at the end of the most recent
+   * tick. Before then, this method must be called from the thread that owns the rules
+   *
+   * @param rules The game rules instance
+   * @return A snapshot of the rule values
+   * @since 0.1.0
+   */
+  public static RuleSnapshot snapshot(final GameRules rules) {
+    final GameRulesAccessor accessor = (GameRulesAccessor) rules;
+    final @Nullable Thread owner = accessor.getOwner();
+    if ((owner != null) && (owner != Thread.currentThread())) {
+      final @Nullable RuleSnapshot snapshot = accessor.getSnapshot();
+      if (snapshot != null) {
+        return snapshot;
+      }
+    }
+    return RuleSnapshot.publish(rules);
+  }
+
+  /**
+   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<BooleanRule> createBooleanRule(final String name, final boolean initialValue, final BiConsumer<MinecraftServer, BooleanRule> changeCallback) {
+    return register(name, createBooleanRule(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<BooleanRule> createBooleanRule(final String name, final boolean initialValue) {
+    return register(name, createBooleanRule(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with an initial value of {@code false}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<BooleanRule> createBooleanRule(final String name, final BiConsumer<MinecraftServer, BooleanRule> changeCallback) {
+    return register(name, createBooleanRule(false, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link BooleanRule} by the given {@code name}, with an initial value of {@code false}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<BooleanRule> createBooleanRule(final String name) {
+    return register(name, createBooleanRule(false, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link IntRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<IntRule> createIntRule(final String name, final int initialValue, final BiConsumer<MinecraftServer, IntRule> changeCallback) {
+    return register(name, createIntRule(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link IntRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<IntRule> createIntRule(final String name, final int initialValue) {
+    return register(name, createIntRule(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link IntRule} by the given {@code name}, with an initial value of {@code 0}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<IntRule> createIntRule(final String name, final BiConsumer<MinecraftServer, IntRule> changeCallback) {
+    return register(name, createIntRule(0, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link IntRule} by the given {@code name}, with an initial value of {@code 0}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<IntRule> createIntRule(final String name) {
+    return register(name, createIntRule(0, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<DoubleRule> createDoubleRule(final String name, final double initialValue, final BiConsumer<MinecraftServer, DoubleRule> changeCallback) {
+    return register(name, DoubleRule.create(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<DoubleRule> createDoubleRule(final String name, final double initialValue) {
+    return register(name, DoubleRule.create(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with an initial value of {@code 0.0}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<DoubleRule> createDoubleRule(final String name, final BiConsumer<MinecraftServer, DoubleRule> changeCallback) {
+    return register(name, DoubleRule.create(0.0, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link DoubleRule} by the given {@code name}, with an initial value of {@code 0.0}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<DoubleRule> createDoubleRule(final String name) {
+    return register(name, DoubleRule.create(0.0, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param valueType The enum's type
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _ -> new")
+  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final E initialValue, final BiConsumer<MinecraftServer, EnumRule<E>> changeCallback) {
+    return register(name, EnumRule.create(valueType, initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param valueType The enum's type
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final E initialValue) {
+    return register(name, EnumRule.create(valueType, initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
+   * with an initial value of {@link EnumRule#initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param valueType The enum's type
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType, final BiConsumer<MinecraftServer, EnumRule<E>> changeCallback) {
+    final @Nullable E value = EnumRule.initialValue(valueType);
+    if (value == null) {
+      throw new IllegalArgumentException("No constants in enum " + valueType);
+    }
+    return register(name, EnumRule.create(valueType, value, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link EnumRule<E>} by the given {@code name}, for the given {@code valueType},
+   * with an initial value of {@link EnumRule#initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param valueType The enum's type
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static <E extends Enum<E>> RuleKey<EnumRule<E>> createEnumRule(final String name, final Class<E> valueType) {
+    final @Nullable E value = EnumRule.initialValue(valueType);
+    if (value == null) {
+      throw new IllegalArgumentException("No constants in enum " + valueType);
+    }
+    return register(name, EnumRule.create(valueType, value, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link FloatRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<FloatRule> createFloatRule(final String name, final float initialValue, final BiConsumer<MinecraftServer, FloatRule> changeCallback) {
+    return register(name, FloatRule.create(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link FloatRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<FloatRule> createFloatRule(final String name, final float initialValue) {
+    return register(name, FloatRule.create(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link FloatRule} by the given {@code name}, with an initial value of {@code 0.0F}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<FloatRule> createFloatRule(final String name, final BiConsumer<MinecraftServer, FloatRule> changeCallback) {
+    return register(name, FloatRule.create(0.0F, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link FloatRule} by the given {@code name}, with an initial value of {@code 0.0F}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<FloatRule> createFloatRule(final String name) {
+    return register(name, FloatRule.create(0.0F, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link StringRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<StringRule> createStringRule(final String name, final String initialValue, final BiConsumer<MinecraftServer, StringRule> changeCallback) {
+    return register(name, StringRule.create(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link StringRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<StringRule> createStringRule(final String name, final String initialValue) {
+    return register(name, StringRule.create(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link StringRule} by the given {@code name}, with an initial value of {@code ""}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<StringRule> createStringRule(final String name, final BiConsumer<MinecraftServer, StringRule> changeCallback) {
+    return register(name, StringRule.create("", changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link StringRule} by the given {@code name}, with an initial value of {@code ""}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<StringRule> createStringRule(final String name) {
+    return register(name, StringRule.create("", (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link LongRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _ -> new")
+  public static RuleKey<LongRule> createLongRule(final String name, final long initialValue, final BiConsumer<MinecraftServer, LongRule> changeCallback) {
+    return register(name, LongRule.create(initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link LongRule} by the given {@code name}, with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<LongRule> createLongRule(final String name, final long initialValue) {
+    return register(name, LongRule.create(initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link LongRule} by the given {@code name}, with an initial value of {@code 0L}
+   *
+   * @param name The unique name of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _ -> new")
+  public static RuleKey<LongRule> createLongRule(final String name, final BiConsumer<MinecraftServer, LongRule> changeCallback) {
+    return register(name, LongRule.create(0L, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link LongRule} by the given {@code name}, with an initial value of {@code 0L}
+   *
+   * @param name The unique name of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_ -> new")
+  public static RuleKey<LongRule> createLongRule(final String name) {
+    return register(name, LongRule.create(0L, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedIntRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _, _ -> new")
+  public static RuleKey<BoundedIntRule> createBoundedIntRule(final String name, final int min, final int max, final int initialValue, final BiConsumer<MinecraftServer, BoundedIntRule> changeCallback) {
+    return register(name, BoundedIntRule.create(min, max, initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedIntRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _ -> new")
+  public static RuleKey<BoundedIntRule> createBoundedIntRule(final String name, final int min, final int max, final int initialValue) {
+    return register(name, BoundedIntRule.create(min, max, initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedDoubleRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _, _ -> new")
+  public static RuleKey<BoundedDoubleRule> createBoundedDoubleRule(final String name, final double min, final double max, final double initialValue, final BiConsumer<MinecraftServer, BoundedDoubleRule> changeCallback) {
+    return register(name, BoundedDoubleRule.create(min, max, initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedDoubleRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _ -> new")
+  public static RuleKey<BoundedDoubleRule> createBoundedDoubleRule(final String name, final double min, final double max, final double initialValue) {
+    return register(name, BoundedDoubleRule.create(min, max, initialValue, (server, rule) -> {}));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedFloatRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @param changeCallback The callback invoked when the rule is changed
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _, _ -> new")
+  public static RuleKey<BoundedFloatRule> createBoundedFloatRule(final String name, final float min, final float max, final float initialValue, final BiConsumer<MinecraftServer, BoundedFloatRule> changeCallback) {
+    return register(name, BoundedFloatRule.create(min, max, initialValue, changeCallback));
+  }
+
+  /**
+   * Creates and registers a new {@link BoundedFloatRule} by the given {@code name}, bounded to the given range,
+   * with the given {@code initialValue}
+   *
+   * @param name The unique name of the rule
+   * @param min The minimum value of the rule, inclusive
+   * @param max The maximum value of the rule, inclusive
+   * @param initialValue The initial value of the rule
+   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
+   * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @since 0.1.0
+   */
+  @Contract("_, _, _, _ -> new")
+  public static RuleKey<BoundedFloatRule> createBoundedFloatRule(final String name, final float min, final float max, final float initialValue) {
+    return register(name, BoundedFloatRule.create(min, max, initialValue, (server, rule) -> {}));
+  }
+
+  /*
+   * Gets the value of the given {@link BooleanRule} key
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The {@code boolean} value of the rule
+   * @since 0.1.0
+   */
+  //@Contract(pure = true)
+  //public static boolean getBoolean(final GameRules rules, final RuleKey<BooleanRule> key) {
+  //	return rules.getBoolean(key);
+  //}
+
+  /**
+   * Gets the value of the given {@link BooleanRule} key
+   *
+   * @param server The server containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code boolean} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static boolean getBoolean(final MinecraftServer server, final RuleKey<BooleanRule> key) {
+    return rule(server.getGameRules(), key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link BooleanRule} key
+   *
+   * @param level The level containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code boolean} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static boolean getBoolean(final World level, final RuleKey<BooleanRule> key) {
+    return rule(level.getGameRules(), key).get();
+  }
+
+  /**
+   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   *
+   * @param rules The game rules instance
+   * @param key The rule's key
+   * @param value The {@code boolean} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setBoolean(final GameRules rules, final RuleKey<BooleanRule> key, final boolean value) {
+    update(rule(rules, key), value, null);
+  }
+
+  /**
+   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   *
+   * @param server The server containing the game rules
+   * @param key The rule's key
+   * @param value The {@code boolean} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setBoolean(final MinecraftServer server, final RuleKey<BooleanRule> key, final boolean value) {
+    update(rule(server.getGameRules(), key), value, server);
+  }
+
+  /**
+   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   *
+   * @param level The level containing the game rules
+   * @param key The rule's key
+   * @param value The {@code boolean} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setBoolean(final World level, final RuleKey<BooleanRule> key, final boolean value) {
+    update(rule(level.getGameRules(), key), value, level.getServer());
+  }
+
+  /*
+   * Gets the value of the given {@link IntRule} key
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The {@code int} value of the rule
+   * @since 0.1.0
+   */
+  //@Contract(pure = true)
+  //public static int getInt(final GameRules rules, final RuleKey<IntRule> key) {
+  //	return rules.getInt(key);
+  //}
+
+  /**
+   * Gets the value of the given {@link IntRule} key
+   *
+   * @param server The server containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code int} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static int getInt(final MinecraftServer server, final RuleKey<IntRule> key) {
+    return rule(server.getGameRules(), key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link IntRule} key
+   *
+   * @param level The level containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code int} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static int getInt(final World level, final RuleKey<IntRule> key) {
+    return rule(level.getGameRules(), key).get();
+  }
+
+  /**
+   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   *
+   * @param rules The game rules instance
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setInt(final GameRules rules, final RuleKey<IntRule> key, final int value) {
+    set(rule(rules, key), value, null);
+  }
+
+  /**
+   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   *
+   * @param server The server containing the game rules
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setInt(final MinecraftServer server, final RuleKey<IntRule> key, final int value) {
+    set(rule(server.getGameRules(), key), value, server);
+  }
+
+  /**
+   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   *
+   * @param level The level containing the game rules
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setInt(final World level, final RuleKey<IntRule> key, final int value) {
+    set(rule(level.getGameRules(), key), value, level.getServer());
+  }
+
+  /**
+   * Gets the value of the given {@link DoubleRule} key
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The {@code double} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static double getDouble(final GameRules rules, final RuleKey<DoubleRule> key) {
+    return rule(rules, key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link DoubleRule} key
+   *
+   * @param server The server containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code double} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static double getDouble(final MinecraftServer server, final RuleKey<DoubleRule> key) {
+    return rule(server.getGameRules(), key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link DoubleRule} key
+   *
+   * @param level The level containing the game rules
+   * @param key The key representing the rule
+   * @return The {@code double} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static double getDouble(final World level, final RuleKey<DoubleRule> key) {
+    return rule(level.getGameRules(), key).get();
+  }
+
+  /**
+   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   *
+   * @param rules The game rules instance
+   * @param key The rule's key
+   * @param value The {@code double} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setDouble(final GameRules rules, final RuleKey<DoubleRule> key, final double value) {
+    rule(rules, key).set(value, null);
+  }
+
+  /**
+   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   *
+   * @param server The server containing the game rules
+   * @param key The rule's key
+   * @param value The {@code int} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setDouble(final MinecraftServer server, final RuleKey<DoubleRule> key, final double value) {
+    rule(server.getGameRules(), key).set(value, server);
+  }
+
+  /**
+   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   *
+   * @param level The level containing the game rules
+   * @param key The rule's key
+   * @param value The {@code double} value to be set
+   * @since 0.1.0
+   */
+  @Contract(mutates = "param1")
+  public static void setDouble(final World level, final RuleKey<DoubleRule> key, final double value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
+  }
+
+  /**
+   * Gets the value of the given {@link EnumRule} key
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The {@link E} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static <E extends Enum<E>> E getEnum(final GameRules rules, final RuleKey<EnumRule<E>> key) {
+    return rule(rules, key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link EnumRule} key
+   *
+   * @param server The server containing the game rules
+   * @param key The key representing the rule
+   * @return The {@link E} value of the rule instance
+   * @since 0.1.0
+   */
+  @Contract(pure = true)
+  public static <E extends Enum<E>> E getEnum(final MinecraftServer server, final RuleKey<EnumRule<E>> key) {
+    return rule(server.getGameRules(), key).get();
+  }
+
+  /**
+   * Gets the value of the given {@link EnumRule} key
+   *
+   * @param level The level containing the game rules
+   * @param key The key representing the rule
+   * @return The {@link E} value of the rule instance
    * @since 0.1.0
    */
-  @Contract("_, _, _ -> new")
-  public static RuleKey<StringRule> createStringRule(final String name, final String initialValue, final BiConsumer<MinecraftServer, StringRule> changeCallback) {
-    return register(name, StringRule.create(initialValue, changeCallback));
+  @Contract(pure = true)
+  public static <E extends Enum<E>> E getEnum(final World level, final RuleKey<EnumRule<E>> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Creates and registers a new {@link StringRule} by the given {@code name}, with the given {@code initialValue}
+   * Sets the value of the given {@link EnumRule} key to the given {@code value}
    *
-   * @param name The unique name of the rule
-   * @param initialValue The initial value of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param rules The game rules instance
+   * @param key The rule's key
+   * @param value The {@link E} value to be set
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<StringRule> createStringRule(final String name, final String initialValue) {
-    return register(name, StringRule.create(initialValue, (server, rule) -> {}));
+  @Contract(mutates = "param1")
+  public static <E extends Enum<E>> void setEnum(final GameRules rules, final RuleKey<EnumRule<E>> key, final E value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Creates and registers a new {@link StringRule} by the given {@code name}, with an initial value of {@code ""}
+   * Sets the value of the given {@link EnumRule} key to the given {@code value}
    *
-   * @param name The unique name of the rule
-   * @param changeCallback The callback invoked when the rule is changed
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param server The server containing the game rules
+   * @param key The rule's key
+   * @param value The {@link E} value to be set
    * @since 0.1.0
    */
-  @Contract("_, _ -> new")
-  public static RuleKey<StringRule> createStringRule(final String name, final BiConsumer<MinecraftServer, StringRule> changeCallback) {
-    return register(name, StringRule.create("", changeCallback));
+  @Contract(mutates = "param1")
+  public static <E extends Enum<E>> void setEnum(final MinecraftServer server, final RuleKey<EnumRule<E>> key, final E value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Creates and registers a new {@link StringRule} by the given {@code name}, with an initial value of {@code ""}
+   * Sets the value of the given {@link EnumRule} key to the given {@code value}
    *
-   * @param name The unique name of the rule
-   * @return A {@link RuleKey} for querying the rule from a level's {@link GameRules}
-   * @throws IllegalStateException If a rule by the given {@code name} already exists
+   * @param level The level containing the game rules
+   * @param key The rule's key
+   * @param value The {@link E} value to be set
    * @since 0.1.0
    */
-  @Contract("_ -> new")
-  public static RuleKey<StringRule> createStringRule(final String name) {
-    return register(name, StringRule.create("", (server, rule) -> {}));
+  @Contract(mutates = "param1")
+  public static <E extends Enum<E>> void setEnum(final World level, final RuleKey<EnumRule<E>> key, final E value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
-  /*
-   * Gets the value of the given {@link BooleanRule} key
+  /**
+   * Gets the value of the given {@link FloatRule} key
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@code boolean} value of the rule
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
-  //@Contract(pure = true)
-  //public static boolean getBoolean(final GameRules rules, final RuleKey<BooleanRule> key) {
-  //	return rules.getBoolean(key);
-  //}
+  @Contract(pure = true)
+  public static float getFloat(final GameRules rules, final RuleKey<FloatRule> key) {
+    return rule(rules, key).get();
+  }
 
   /**
-   * Gets the value of the given {@link BooleanRule} key
+   * Gets the value of the given {@link FloatRule} key
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@code boolean} value of the rule instance
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static boolean getBoolean(final MinecraftServer server, final RuleKey<BooleanRule> key) {
-    return server.getGameRules().get(key).get();
+  public static float getFloat(final MinecraftServer server, final RuleKey<FloatRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link BooleanRule} key
+   * Gets the value of the given {@link FloatRule} key
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@code boolean} value of the rule instance
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static boolean getBoolean(final World level, final RuleKey<BooleanRule> key) {
-    return level.getGameRules().get(key).get();
+  public static float getFloat(final World level, final RuleKey<FloatRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   * Sets the value of the given {@link FloatRule} key to the given {@code value}
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@code boolean} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setBoolean(final GameRules rules, final RuleKey<BooleanRule> key, final boolean value) {
-    rules.get(key).set(value, null);
+  public static void setFloat(final GameRules rules, final RuleKey<FloatRule> key, final float value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   * Sets the value of the given {@link FloatRule} key to the given {@code value}
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@code boolean} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setBoolean(final MinecraftServer server, final RuleKey<BooleanRule> key, final boolean value) {
-    server.getGameRules().get(key).set(value, server);
+  public static void setFloat(final MinecraftServer server, final RuleKey<FloatRule> key, final float value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link BooleanRule} key to the given {@code value}
+   * Sets the value of the given {@link FloatRule} key to the given {@code value}
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@code boolean} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setBoolean(final World level, final RuleKey<BooleanRule> key, final boolean value) {
-    level.getGameRules().get(key).set(value, level.getServer());
+  public static void setFloat(final World level, final RuleKey<FloatRule> key, final float value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
-  /*
-   * Gets the value of the given {@link IntRule} key
+  /**
+   * Gets the value of the given {@link StringRule} key
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@code int} value of the rule
+   * @return The {@link String} value of the rule instance
    * @since 0.1.0
    */
-  //@Contract(pure = true)
-  //public static int getInt(final GameRules rules, final RuleKey<IntRule> key) {
-  //	return rules.getInt(key);
-  //}
+  @Contract(pure = true)
+  public static String getString(final GameRules rules, final RuleKey<StringRule> key) {
+    return rule(rules, key).get();
+  }
 
   /**
-   * Gets the value of the given {@link IntRule} key
+   * Gets the value of the given {@link StringRule} key
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@code int} value of the rule instance
+   * @return The {@link String} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static int getInt(final MinecraftServer server, final RuleKey<IntRule> key) {
-    return server.getGameRules().get(key).get();
+  public static String getString(final MinecraftServer server, final RuleKey<StringRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link IntRule} key
+   * Gets the value of the given {@link StringRule} key
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@code int} value of the rule instance
+   * @return The {@link String} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static int getInt(final World level, final RuleKey<IntRule> key) {
-    return level.getGameRules().get(key).get();
+  public static String getString(final World level, final RuleKey<StringRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   * Sets the value of the given {@link StringRule} key to the given {@code value}
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@code int} value to be set
+   * @param value The {@link String} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setInt(final GameRules rules, final RuleKey<IntRule> key, final int value) {
-    set(rules.get(key), value, null);
+  public static void setString(final GameRules rules, final RuleKey<StringRule> key, final String value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   * Sets the value of the given {@link StringRule} key to the given {@code value}
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@code int} value to be set
+   * @param value The {@link String} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setInt(final MinecraftServer server, final RuleKey<IntRule> key, final int value) {
-    set(server.getGameRules().get(key), value, server);
+  public static void setString(final MinecraftServer server, final RuleKey<StringRule> key, final String value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link IntRule} key to the given {@code value}
+   * Sets the value of the given {@link StringRule} key to the given {@code value}
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@code int} value to be set
+   * @param value The {@link String} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setInt(final World level, final RuleKey<IntRule> key, final int value) {
-    set(level.getGameRules().get(key), value, level.getServer());
+  public static void setString(final World level, final RuleKey<StringRule> key, final String value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
   /**
-   * Gets the value of the given {@link DoubleRule} key
+   * Gets the value of the given {@link LongRule} key
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@code double} value of the rule instance
+   * @return The {@code long} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static double getDouble(final GameRules rules, final RuleKey<DoubleRule> key) {
-    return rules.get(key).get();
+  public static long getLong(final GameRules rules, final RuleKey<LongRule> key) {
+    return rule(rules, key).get();
   }
 
   /**
-   * Gets the value of the given {@link DoubleRule} key
+   * Gets the value of the given {@link LongRule} key
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@code double} value of the rule instance
+   * @return The {@code long} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static double getDouble(final MinecraftServer server, final RuleKey<DoubleRule> key) {
-    return server.getGameRules().get(key).get();
+  public static long getLong(final MinecraftServer server, final RuleKey<LongRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link DoubleRule} key
+   * Gets the value of the given {@link LongRule} key
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@code double} value of the rule instance
+   * @return The {@code long} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static double getDouble(final World level, final RuleKey<DoubleRule> key) {
-    return level.getGameRules().get(key).get();
+  public static long getLong(final World level, final RuleKey<LongRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   * Sets the value of the given {@link LongRule} key to the given {@code value}
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@code double} value to be set
+   * @param value The {@code long} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setDouble(final GameRules rules, final RuleKey<DoubleRule> key, final double value) {
-    rules.get(key).set(value, null);
+  public static void setLong(final GameRules rules, final RuleKey<LongRule> key, final long value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   * Sets the value of the given {@link LongRule} key to the given {@code value}
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@code int} value to be set
+   * @param value The {@code long} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setDouble(final MinecraftServer server, final RuleKey<DoubleRule> key, final double value) {
-    server.getGameRules().get(key).set(value, server);
+  public static void setLong(final MinecraftServer server, final RuleKey<LongRule> key, final long value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link DoubleRule} key to the given {@code value}
+   * Sets the value of the given {@link LongRule} key to the given {@code value}
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@code double} value to be set
+   * @param value The {@code long} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setDouble(final World level, final RuleKey<DoubleRule> key, final double value) {
-    level.getGameRules().get(key).set(value, level.getServer());
+  public static void setLong(final World level, final RuleKey<LongRule> key, final long value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
   /**
-   * Gets the value of the given {@link EnumRule} key
+   * Gets the value of the given {@link BoundedIntRule} key, which is always within the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@link E} value of the rule instance
+   * @return The {@code int} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static <E extends Enum<E>> E getEnum(final GameRules rules, final RuleKey<EnumRule<E>> key) {
-    return rules.get(key).get();
+  public static int getBoundedInt(final GameRules rules, final RuleKey<BoundedIntRule> key) {
+    return rule(rules, key).get();
   }
 
   /**
-   * Gets the value of the given {@link EnumRule} key
+   * Gets the value of the given {@link BoundedIntRule} key, which is always within the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@link E} value of the rule instance
+   * @return The {@code int} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static <E extends Enum<E>> E getEnum(final MinecraftServer server, final RuleKey<EnumRule<E>> key) {
-    return server.getGameRules().get(key).get();
+  public static int getBoundedInt(final MinecraftServer server, final RuleKey<BoundedIntRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link EnumRule} key
+   * Gets the value of the given {@link BoundedIntRule} key, which is always within the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@link E} value of the rule instance
+   * @return The {@code int} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static <E extends Enum<E>> E getEnum(final World level, final RuleKey<EnumRule<E>> key) {
-    return level.getGameRules().get(key).get();
+  public static int getBoundedInt(final World level, final RuleKey<BoundedIntRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link EnumRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedIntRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@link E} value to be set
+   * @param value The {@code int} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static <E extends Enum<E>> void setEnum(final GameRules rules, final RuleKey<EnumRule<E>> key, final E value) {
-    rules.get(key).set(value, null);
+  public static void setBoundedInt(final GameRules rules, final RuleKey<BoundedIntRule> key, final int value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link EnumRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedIntRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@link E} value to be set
+   * @param value The {@code int} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static <E extends Enum<E>> void setEnum(final MinecraftServer server, final RuleKey<EnumRule<E>> key, final E value) {
-    server.getGameRules().get(key).set(value, server);
+  public static void setBoundedInt(final MinecraftServer server, final RuleKey<BoundedIntRule> key, final int value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link EnumRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedIntRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@link E} value to be set
+   * @param value The {@code int} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static <E extends Enum<E>> void setEnum(final World level, final RuleKey<EnumRule<E>> key, final E value) {
-    level.getGameRules().get(key).set(value, level.getServer());
+  public static void setBoundedInt(final World level, final RuleKey<BoundedIntRule> key, final int value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
   /**
-   * Gets the value of the given {@link FloatRule} key
+   * Gets the value of the given {@link BoundedDoubleRule} key, which is always within the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@code float} value of the rule instance
+   * @return The {@code double} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static float getFloat(final GameRules rules, final RuleKey<FloatRule> key) {
-    return rules.get(key).get();
+  public static double getBoundedDouble(final GameRules rules, final RuleKey<BoundedDoubleRule> key) {
+    return rule(rules, key).get();
   }
 
   /**
-   * Gets the value of the given {@link FloatRule} key
+   * Gets the value of the given {@link BoundedDoubleRule} key, which is always within the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@code float} value of the rule instance
+   * @return The {@code double} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static float getFloat(final MinecraftServer server, final RuleKey<FloatRule> key) {
-    return server.getGameRules().get(key).get();
+  public static double getBoundedDouble(final MinecraftServer server, final RuleKey<BoundedDoubleRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link FloatRule} key
+   * Gets the value of the given {@link BoundedDoubleRule} key, which is always within the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@code float} value of the rule instance
+   * @return The {@code double} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static float getFloat(final World level, final RuleKey<FloatRule> key) {
-    return level.getGameRules().get(key).get();
+  public static double getBoundedDouble(final World level, final RuleKey<BoundedDoubleRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link FloatRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedDoubleRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@code float} value to be set
+   * @param value The {@code double} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setFloat(final GameRules rules, final RuleKey<FloatRule> key, final float value) {
-    rules.get(key).set(value, null);
+  public static void setBoundedDouble(final GameRules rules, final RuleKey<BoundedDoubleRule> key, final double value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link FloatRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedDoubleRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@code float} value to be set
+   * @param value The {@code double} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setFloat(final MinecraftServer server, final RuleKey<FloatRule> key, final float value) {
-    server.getGameRules().get(key).set(value, server);
+  public static void setBoundedDouble(final MinecraftServer server, final RuleKey<BoundedDoubleRule> key, final double value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link FloatRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedDoubleRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@code float} value to be set
+   * @param value The {@code double} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setFloat(final World level, final RuleKey<FloatRule> key, final float value) {
-    level.getGameRules().get(key).set(value, level.getServer());
+  public static void setBoundedDouble(final World level, final RuleKey<BoundedDoubleRule> key, final double value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
   /**
-   * Gets the value of the given {@link StringRule} key
+   * Gets the value of the given {@link BoundedFloatRule} key, which is always within the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The key representing the rule
-   * @return The {@link String} value of the rule instance
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static String getString(final GameRules rules, final RuleKey<StringRule> key) {
-    return rules.get(key).get();
+  public static float getBoundedFloat(final GameRules rules, final RuleKey<BoundedFloatRule> key) {
+    return rule(rules, key).get();
   }
 
   /**
-   * Gets the value of the given {@link StringRule} key
+   * Gets the value of the given {@link BoundedFloatRule} key, which is always within the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The key representing the rule
-   * @return The {@link String} value of the rule instance
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static String getString(final MinecraftServer server, final RuleKey<StringRule> key) {
-    return server.getGameRules().get(key).get();
+  public static float getBoundedFloat(final MinecraftServer server, final RuleKey<BoundedFloatRule> key) {
+    return rule(server.getGameRules(), key).get();
   }
 
   /**
-   * Gets the value of the given {@link StringRule} key
+   * Gets the value of the given {@link BoundedFloatRule} key, which is always within the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The key representing the rule
-   * @return The {@link String} value of the rule instance
+   * @return The {@code float} value of the rule instance
    * @since 0.1.0
    */
   @Contract(pure = true)
-  public static String getString(final World level, final RuleKey<StringRule> key) {
-    return level.getGameRules().get(key).get();
+  public static float getBoundedFloat(final World level, final RuleKey<BoundedFloatRule> key) {
+    return rule(level.getGameRules(), key).get();
   }
 
   /**
-   * Sets the value of the given {@link StringRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedFloatRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param rules The game rules instance
    * @param key The rule's key
-   * @param value The {@link String} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setString(final GameRules rules, final RuleKey<StringRule> key, final String value) {
-    rules.get(key).set(value, null);
+  public static void setBoundedFloat(final GameRules rules, final RuleKey<BoundedFloatRule> key, final float value) {
+    rule(rules, key).set(value, null);
   }
 
   /**
-   * Sets the value of the given {@link StringRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedFloatRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param server The server containing the game rules
    * @param key The rule's key
-   * @param value The {@link String} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setString(final MinecraftServer server, final RuleKey<StringRule> key, final String value) {
-    server.getGameRules().get(key).set(value, server);
+  public static void setBoundedFloat(final MinecraftServer server, final RuleKey<BoundedFloatRule> key, final float value) {
+    rule(server.getGameRules(), key).set(value, server);
   }
 
   /**
-   * Sets the value of the given {@link StringRule} key to the given {@code value}
+   * Sets the value of the given {@link BoundedFloatRule} key to the given {@code value}, clamped to the bounds of the rule
    *
    * @param level The level containing the game rules
    * @param key The rule's key
-   * @param value The {@link String} value to be set
+   * @param value The {@code float} value to be set
    * @since 0.1.0
    */
   @Contract(mutates = "param1")
-  public static void setString(final World level, final RuleKey<StringRule> key, final String value) {
-    level.getGameRules().get(key).set(value, level.getServer());
+  public static void setBoundedFloat(final World level, final RuleKey<BoundedFloatRule> key, final float value) {
+    rule(level.getGameRules(), key).set(value, level.getServer());
   }
 
   /**
-   * Sets the value of the given {@link IntRule} to the given {@code value}, and invokes
-   * the callback method declared in {@link Rule}. This method is effectively a placeholder
-   * for an absent/stripped method in the actual class. This method is semantically equivalent
-   * to {@link BooleanRule#set(boolean, MinecraftServer)}.
+   * Sets the value of the given {@link IntRule} to the given {@code value}, and invokes the
+   * callback method declared in {@link Rule} only if the value differs from the current value,
+   * so writing the current value again does not notify any callbacks. This method stands in
+   * for a setter that is absent from the actual class.
    *
    * @param rule The receiver rule
    * @param value The value to be set
@@ -970,8 +2236,48 @@ public static void setString(final World level, final RuleKey<StringRule> key, f
   @Beta
   @Contract(mutates = "param1")
   public static void set(final IntRule rule, final int value, final @Nullable MinecraftServer server) {
-    ((IntRuleAccessor) rule).setValue(value);
+    update(rule, value, server);
+  }
+
+  /**
+   * Sets the value of the given {@link IntRule} to the given {@code value}, invoking
+   * change callbacks only if the given {@code value} differs from the current value
+   *
+   * @param rule The receiver rule
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @return True if the value was changed
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
+  @Contract(mutates = "param1")
+  static boolean update(final IntRule rule, final int value, final @Nullable MinecraftServer server) {
+    final @Nullable IntRuleValidator validator = RuleValidation.validator(((RuleAccessor) rule).getType(), IntRuleValidator.class);
+    final int validated = (validator != null) ? validator.validate(value) : value;
+    if (rule.get() == validated) {
+      return false;
+    }
+    ((IntRuleAccessor) rule).setPreviousValue(rule.get());
+    ((IntRuleAccessor) rule).setValue(validated);
     ((RuleAccessor) rule).invokeChanged(server);
+    return true;
+  }
+
+  /**
+   * Sets the value of the given {@link BooleanRule} to the given {@code value}, invoking
+   * change callbacks only if the given {@code value} differs from the current value
+   *
+   * @param rule The receiver rule
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @return True if the value was changed
+   */
+  @Contract(mutates = "param1")
+  static boolean update(final BooleanRule rule, final boolean value, final @Nullable MinecraftServer server) {
+    if (rule.get() == value) {
+      return false;
+    }
+    rule.set(value, server);
+    return true;
   }
 
   @Contract("_, _, _, _ -> new")
@@ -982,7 +2288,26 @@ static <T extends Rule<T>> RuleType<T> type(
     final BiConsumer<MinecraftServer, T> changeCallback
   ) {
     LOGGER.debug("Creating new {} rule type", ruleValueType);
-    return RuleTypeAccessor.newRuleType(argumentType, ruleFactory, changeCallback);
+    return RulePersistence.recordDefault(RuleTypeAccessor.newRuleType(argumentType, ruleFactory, changeCallback));
+  }
+
+  /**
+   * Gets the rule instance for the given {@code key} from the given {@code rules},
+   * indexing directly by the slot of the key instead of hashing it
+   *
+   * @param rules The game rules instance
+   * @param key The key representing the rule
+   * @return The rule instance
+   */
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  static <T extends Rule<T>> T rule(final GameRules rules, final RuleKey<T> key) {
+    final Rule<?>[] rulesBySlot = ((GameRulesAccessor) rules).getRulesBySlot();
+    final int slot = RuleIndex.slot(key);
+    if (slot >= 0 && slot < rulesBySlot.length) {
+      return (T) rulesBySlot[slot];
+    }
+    return rules.get(key);
   }
 
   @Contract(pure = true)
@@ -990,16 +2315,16 @@ private static Map<RuleKey<?>, RuleType<?>> ruleTypes() {
     return GameRulesAccessor.getRuleTypes();
   }
 
-  @Contract(value = "_, _ -> new", pure = true)
+  @Contract("_, _ -> new")
   private static RuleType<BooleanRule> createBooleanRule(final boolean initialValue, final BiConsumer<MinecraftServer, BooleanRule> changeCallback) {
     LOGGER.debug("Creating new boolean rule type");
-    return BooleanRuleAccessor.callCreate(initialValue, changeCallback);
+    return RulePersistence.recordDefault(BooleanRuleAccessor.callCreate(initialValue, changeCallback));
   }
 
-  @Contract(value = "_, _ -> new", pure = true)
+  @Contract("_, _ -> new")
   private static RuleType<IntRule> createIntRule(final int initialValue, final BiConsumer<MinecraftServer, IntRule> changeCallback) {
     LOGGER.debug("Creating new int rule type");
-    return IntRuleAccessor.callCreate(initialValue, changeCallback);
+    return RulePersistence.recordDefault(IntRuleAccessor.callCreate(initialValue, changeCallback));
   }
 
   @Contract("_, _ -> new")
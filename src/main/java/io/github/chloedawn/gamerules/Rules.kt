@@ -25,17 +25,444 @@ import net.minecraft.world.GameRules.Rule
 import net.minecraft.world.GameRules.RuleKey
 import net.minecraft.world.World
 import org.jetbrains.annotations.ApiStatus
+import java.util.concurrent.Executor
+import java.util.function.DoublePredicate
+import java.util.function.IntPredicate
 
 /**
  * Adds the given [changeCallback] to the registered rule type of the receiver `key`
  *
  * @receiver The rule key to add a callback for
  * @param changeCallback The callback to be added
+ * @return A subscription handle for removing the added callback
  * @throws NoSuchRuleException If no rule exists for the receiver `key`
  * @since 0.1.0
  */
-fun <T : Rule<T>> RuleKey<T>.observe(changeCallback: (server: MinecraftServer, rule: T) -> Unit) {
-  Rules.observe(this, changeCallback)
+fun <T : Rule<T>> RuleKey<T>.observe(changeCallback: (server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observe(this, changeCallback)
+}
+
+/**
+ * Adds the given [changeCallback] to the registered rule type of the receiver `key`, to be
+ * queued on the given [scheduler] and run within its per-tick time budget
+ *
+ * @receiver The rule key to add a callback for
+ * @param scheduler The scheduler to queue the callback on
+ * @param changeCallback The callback to be added
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+fun <T : Rule<T>> RuleKey<T>.observe(scheduler: RuleScheduler, changeCallback: (server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observe(this, scheduler, changeCallback)
+}
+
+/**
+ * Adds the given [changeCallback] to the registered rule type of the receiver `key`, debounced so that
+ * it is invoked once [delay] ticks have passed without a further change
+ *
+ * @receiver The rule key to add a callback for
+ * @param delay The number of ticks to wait after the last change
+ * @param changeCallback The callback to be added
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+fun <T : Rule<T>> RuleKey<T>.observeDebounced(delay: Long, changeCallback: (server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observeDebounced(this, delay, changeCallback)
+}
+
+/**
+ * Adds the given [changeCallback] to the registered rule type of the receiver `key`, rate limited so
+ * that it is invoked at most once every [interval] ticks
+ *
+ * @receiver The rule key to add a callback for
+ * @param interval The minimum number of ticks between invocations
+ * @param changeCallback The callback to be added
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+fun <T : Rule<T>> RuleKey<T>.observeRateLimited(interval: Long, changeCallback: (server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observeRateLimited(this, interval, changeCallback)
+}
+
+/**
+ * Adds the given [changeCallback] to the registered rule type of the receiver `key`, held weakly by the
+ * given [owner]. The callback is removed once the owner has been collected, and must not capture the owner
+ *
+ * @receiver The rule key to add a callback for
+ * @param owner The owner of the callback
+ * @param changeCallback The callback to be added, receiving the owner
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+fun <O, T : Rule<T>> RuleKey<T>.observeWeak(owner: O, changeCallback: (owner: O, server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observeWeak(this, owner, WeakRuleCallback(changeCallback))
+}
+
+/**
+ * Adds the given conflated [changeCallback] to the registered rule type of the receiver `key`,
+ * invoked once at the end of each tick in which a rule of the type was changed
+ *
+ * @receiver The rule key to add a callback for
+ * @param changeCallback The callback to be added
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+fun <T : Rule<T>> RuleKey<T>.observeConflated(changeCallback: (server: MinecraftServer, rule: T) -> Unit): RuleSubscription {
+  return Rules.observeConflated(this, changeCallback)
+}
+
+/**
+ * Adds the given [listener] to the registered [BooleanRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `boolean` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoolean")
+fun RuleKey<BooleanRule>.observe(listener: (server: MinecraftServer, oldValue: Boolean, newValue: Boolean) -> Unit): RuleSubscription {
+  return Rules.observe(this, BooleanRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [IntRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeInt")
+fun RuleKey<IntRule>.observe(listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observe(this, IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [DoubleRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeDouble")
+fun RuleKey<DoubleRule>.observe(listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observe(this, DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [FloatRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeFloat")
+fun RuleKey<FloatRule>.observe(listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observe(this, FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [LongRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `long` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeLong")
+fun RuleKey<LongRule>.observe(listener: (server: MinecraftServer, oldValue: Long, newValue: Long) -> Unit): RuleSubscription {
+  return Rules.observe(this, LongRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [IntRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeIntWhen")
+fun RuleKey<IntRule>.observeWhen(predicate: (value: Int) -> Boolean, listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observeWhen(this, IntPredicate(predicate), IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [IntRule] type of the receiver `key`,
+ * invoked only when a change moves the value across the given [threshold]
+ *
+ * @receiver The rule key to add a listener for
+ * @param threshold The threshold to observe crossings of
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeIntCrossing")
+fun RuleKey<IntRule>.observeCrossing(threshold: Int, listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observeCrossing(this, threshold, IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [DoubleRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeDoubleWhen")
+fun RuleKey<DoubleRule>.observeWhen(predicate: (value: Double) -> Boolean, listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observeWhen(this, DoublePredicate(predicate), DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [DoubleRule] type of the receiver `key`,
+ * invoked only when a change moves the value across the given [threshold]
+ *
+ * @receiver The rule key to add a listener for
+ * @param threshold The threshold to observe crossings of
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeDoubleCrossing")
+fun RuleKey<DoubleRule>.observeCrossing(threshold: Double, listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observeCrossing(this, threshold, DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [FloatRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeFloatWhen")
+fun RuleKey<FloatRule>.observeWhen(predicate: (value: Double) -> Boolean, listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observeWhen(this, DoublePredicate(predicate), FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [FloatRule] type of the receiver `key`,
+ * invoked only when a change moves the value across the given [threshold]
+ *
+ * @receiver The rule key to add a listener for
+ * @param threshold The threshold to observe crossings of
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeFloatCrossing")
+fun RuleKey<FloatRule>.observeCrossing(threshold: Float, listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observeCrossing(this, threshold, FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedIntRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedInt")
+fun RuleKey<BoundedIntRule>.observe(listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observeBounded(this, IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedIntRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedIntWhen")
+fun RuleKey<BoundedIntRule>.observeWhen(predicate: (value: Int) -> Boolean, listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observeBoundedWhen(this, IntPredicate(predicate), IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedDoubleRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedDouble")
+fun RuleKey<BoundedDoubleRule>.observe(listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observeBounded(this, DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedDoubleRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedDoubleWhen")
+fun RuleKey<BoundedDoubleRule>.observeWhen(predicate: (value: Double) -> Boolean, listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observeBoundedWhen(this, DoublePredicate(predicate), DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedFloatRule] type of the receiver `key`
+ *
+ * @receiver The rule key to add a listener for
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedFloat")
+fun RuleKey<BoundedFloatRule>.observe(listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observeBounded(this, FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BoundedFloatRule] type of the receiver `key`,
+ * invoked only when a change flips the result of the given [predicate]
+ *
+ * @receiver The rule key to add a listener for
+ * @param predicate The predicate tested against the old and new values
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBoundedFloatWhen")
+fun RuleKey<BoundedFloatRule>.observeWhen(predicate: (value: Double) -> Boolean, listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observeBoundedWhen(this, DoublePredicate(predicate), FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [BooleanRule] type of the receiver `key`, to be
+ * invoked on the given [executor] rather than the server thread, in the order changes are made
+ *
+ * @receiver The rule key to add a listener for
+ * @param executor The executor to invoke the listener on
+ * @param listener The listener to be added, receiving the old and new `boolean` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeBooleanAsync")
+fun RuleKey<BooleanRule>.observeAsync(executor: Executor = Rules.asyncExecutor(), listener: (server: MinecraftServer, oldValue: Boolean, newValue: Boolean) -> Unit): RuleSubscription {
+  return Rules.observeAsync(this, executor, BooleanRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [IntRule] type of the receiver `key`, to be
+ * invoked on the given [executor] rather than the server thread, in the order changes are made
+ *
+ * @receiver The rule key to add a listener for
+ * @param executor The executor to invoke the listener on
+ * @param listener The listener to be added, receiving the old and new `int` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeIntAsync")
+fun RuleKey<IntRule>.observeAsync(executor: Executor = Rules.asyncExecutor(), listener: (server: MinecraftServer, oldValue: Int, newValue: Int) -> Unit): RuleSubscription {
+  return Rules.observeAsync(this, executor, IntRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [DoubleRule] type of the receiver `key`, to be
+ * invoked on the given [executor] rather than the server thread, in the order changes are made
+ *
+ * @receiver The rule key to add a listener for
+ * @param executor The executor to invoke the listener on
+ * @param listener The listener to be added, receiving the old and new `double` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeDoubleAsync")
+fun RuleKey<DoubleRule>.observeAsync(executor: Executor = Rules.asyncExecutor(), listener: (server: MinecraftServer, oldValue: Double, newValue: Double) -> Unit): RuleSubscription {
+  return Rules.observeAsync(this, executor, DoubleRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [FloatRule] type of the receiver `key`, to be
+ * invoked on the given [executor] rather than the server thread, in the order changes are made
+ *
+ * @receiver The rule key to add a listener for
+ * @param executor The executor to invoke the listener on
+ * @param listener The listener to be added, receiving the old and new `float` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeFloatAsync")
+fun RuleKey<FloatRule>.observeAsync(executor: Executor = Rules.asyncExecutor(), listener: (server: MinecraftServer, oldValue: Float, newValue: Float) -> Unit): RuleSubscription {
+  return Rules.observeAsync(this, executor, FloatRuleListener(listener))
+}
+
+/**
+ * Adds the given [listener] to the registered [LongRule] type of the receiver `key`, to be
+ * invoked on the given [executor] rather than the server thread, in the order changes are made
+ *
+ * @receiver The rule key to add a listener for
+ * @param executor The executor to invoke the listener on
+ * @param listener The listener to be added, receiving the old and new `long` values
+ * @return A subscription handle for removing the added callback
+ * @throws NoSuchRuleException If no rule exists for the receiver `key`
+ * @since 0.1.0
+ */
+@JvmName("observeLongAsync")
+fun RuleKey<LongRule>.observeAsync(executor: Executor = Rules.asyncExecutor(), listener: (server: MinecraftServer, oldValue: Long, newValue: Long) -> Unit): RuleSubscription {
+  return Rules.observeAsync(this, executor, LongRuleListener(listener))
+}
+
+/**
+ * Applies the changes made by the given [transaction] to the game rules of the receiver `server`,
+ * deferring change callbacks until the transaction has completed, then notifying each changed rule once
+ *
+ * @receiver The server containing the game rules
+ * @param transaction The transaction setting rule values
+ * @return The keys of the changed rules, in the order they were first changed
+ * @since 0.1.0
+ */
+fun MinecraftServer.transaction(transaction: RuleTransaction.() -> Unit): Set<RuleKey<*>> {
+  return Rules.transaction(this, transaction)
 }
 
 /**
@@ -417,6 +844,157 @@ fun stringRuleOf(name: String): RuleKey<StringRule> {
   return Rules.createStringRule(name)
 }
 
+/**
+ * Creates and registers a new [LongRule] by the given [name], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param initialValue The initial value of the rule
+ * @param changeCallback The callback invoked when the rule is changed
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun longRuleOf(name: String, initialValue: Long, changeCallback: (server: MinecraftServer, rule: LongRule) -> Unit): RuleKey<LongRule> {
+  return Rules.createLongRule(name, initialValue, changeCallback)
+}
+
+/**
+ * Creates and registers a new [LongRule] by the given [name], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param initialValue The initial value of the rule
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun longRuleOf(name: String, initialValue: Long): RuleKey<LongRule> {
+  return Rules.createLongRule(name, initialValue)
+}
+
+/**
+ * Creates and registers a new [LongRule] by the given [name], with an initial value of `0L`
+ *
+ * @param name The unique name of the rule
+ * @param changeCallback The callback invoked when the rule is changed
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun longRuleOf(name: String, changeCallback: (server: MinecraftServer, rule: LongRule) -> Unit): RuleKey<LongRule> {
+  return Rules.createLongRule(name, changeCallback)
+}
+
+/**
+ * Creates and registers a new [LongRule] by the given [name], with an initial value of `0L`
+ *
+ * @param name The unique name of the rule
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun longRuleOf(name: String): RuleKey<LongRule> {
+  return Rules.createLongRule(name)
+}
+
+/**
+ * Creates and registers a new [BoundedIntRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @param changeCallback The callback invoked when the rule is changed
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedIntRuleOf(name: String, min: Int, max: Int, initialValue: Int, changeCallback: (server: MinecraftServer, rule: BoundedIntRule) -> Unit): RuleKey<BoundedIntRule> {
+  return Rules.createBoundedIntRule(name, min, max, initialValue, changeCallback)
+}
+
+/**
+ * Creates and registers a new [BoundedIntRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedIntRuleOf(name: String, min: Int, max: Int, initialValue: Int): RuleKey<BoundedIntRule> {
+  return Rules.createBoundedIntRule(name, min, max, initialValue)
+}
+
+/**
+ * Creates and registers a new [BoundedDoubleRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @param changeCallback The callback invoked when the rule is changed
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedDoubleRuleOf(name: String, min: Double, max: Double, initialValue: Double, changeCallback: (server: MinecraftServer, rule: BoundedDoubleRule) -> Unit): RuleKey<BoundedDoubleRule> {
+  return Rules.createBoundedDoubleRule(name, min, max, initialValue, changeCallback)
+}
+
+/**
+ * Creates and registers a new [BoundedDoubleRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedDoubleRuleOf(name: String, min: Double, max: Double, initialValue: Double): RuleKey<BoundedDoubleRule> {
+  return Rules.createBoundedDoubleRule(name, min, max, initialValue)
+}
+
+/**
+ * Creates and registers a new [BoundedFloatRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @param changeCallback The callback invoked when the rule is changed
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedFloatRuleOf(name: String, min: Float, max: Float, initialValue: Float, changeCallback: (server: MinecraftServer, rule: BoundedFloatRule) -> Unit): RuleKey<BoundedFloatRule> {
+  return Rules.createBoundedFloatRule(name, min, max, initialValue, changeCallback)
+}
+
+/**
+ * Creates and registers a new [BoundedFloatRule] by the given [name], bounded to the range [min] to [max], with the given [initialValue]
+ *
+ * @param name The unique name of the rule
+ * @param min The minimum value of the rule, inclusive
+ * @param max The maximum value of the rule, inclusive
+ * @param initialValue The initial value of the rule
+ * @return A [RuleKey] for querying the rule from a level's [GameRules]
+ * @throws IllegalArgumentException If the bounds are invalid or the initial value is out of bounds
+ * @throws IllegalStateException If a rule by the given [name] already exists
+ * @since 0.1.0
+ */
+fun boundedFloatRuleOf(name: String, min: Float, max: Float, initialValue: Float): RuleKey<BoundedFloatRule> {
+  return Rules.createBoundedFloatRule(name, min, max, initialValue)
+}
+
 /*
  * Gets the value of the given [BooleanRule] key
  *
@@ -617,11 +1195,35 @@ fun World.setString(key: RuleKey<StringRule>, value: String) {
   Rules.setString(this, key, value)
 }
 
+fun GameRules.getLong(key: RuleKey<LongRule>): Long {
+  return Rules.getLong(this, key)
+}
+
+fun MinecraftServer.getLong(key: RuleKey<LongRule>): Long {
+  return Rules.getLong(this, key)
+}
+
+fun World.getLong(key: RuleKey<LongRule>): Long {
+  return Rules.getLong(this, key)
+}
+
+fun GameRules.setLong(key: RuleKey<LongRule>, value: Long) {
+  Rules.setLong(this, key, value)
+}
+
+fun MinecraftServer.setLong(key: RuleKey<LongRule>, value: Long) {
+  Rules.setLong(this, key, value)
+}
+
+fun World.setLong(key: RuleKey<LongRule>, value: Long) {
+  Rules.setLong(this, key, value)
+}
+
 /**
- * Sets the value of the receiver [IntRule] to the given [value], and invokes
- * the callback method declared in [Rule]. This method is effectively a placeholder
- * for an absent/stripped method in the actual class. This method is semantically
- * equivalent to [BooleanRule.set]
+ * Sets the value of the receiver [IntRule] to the given [value], and invokes the
+ * callback method declared in [Rule] only if the value differs from the current value,
+ * so writing the current value again does not notify any callbacks. This method stands
+ * in for a setter that is absent from the actual class
  *
  * This extension function is [ApiStatus.Experimental] as it is not guaranteed to
  * exist in future versions targeting newer Minecraft versions, dependant on
@@ -18,10 +18,15 @@
 
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
 import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.Contract;
 
@@ -36,6 +41,8 @@
  * @since 0.1.0
  */
 public final class StringRule extends Rule<StringRule> {
+  private static final Logger LOGGER = LogManager.getLogger();
+
   private String value;
 
   @Contract(pure = true)
@@ -46,7 +53,13 @@ private StringRule(final RuleType<StringRule> type, final String initialValue) {
 
   @Contract("_, _ -> new")
   static RuleType<StringRule> create(final String initialValue, final BiConsumer<MinecraftServer, StringRule> callback) {
-    return Rules.type("string", StringArgumentType::string, type -> new StringRule(type, initialValue), callback);
+    final RuleType<StringRule> ruleType = Rules.type("string", StringArgumentType::string, type -> new StringRule(type, initialValue), callback);
+    return RuleValidation.<StringRule, RuleValidator<String>>bind(ruleType, RuleValidator.class, RuleValidator::andThen);
+  }
+
+  private String validate(final String value) {
+    final @Nullable RuleValidator<String> validator = RuleValidation.validator(((RuleAccessor) (Object) this).getType(), RuleValidator.class);
+    return (validator != null) ? Objects.requireNonNull(validator.validate(value)) : value;
   }
 
   @Contract(pure = true)
@@ -54,22 +67,48 @@ public String get() {
     return this.value;
   }
 
+  /**
+   * Sets the value of this rule, invoking change callbacks only if the
+   * given {@code value}, once validated, is not equal to the current value
+   *
+   * @param value The value to be set
+   * @param server The server to call back to
+   * @throws IllegalArgumentException If the value is rejected by a validator
+   */
   @Contract(mutates = "this")
   public void set(final String value, final @Nullable MinecraftServer server) {
-    this.value = Objects.requireNonNull(value);
+    this.update(value, server);
+  }
+
+  @Contract(mutates = "this")
+  boolean update(final String value, final @Nullable MinecraftServer server) {
+    final String validated = this.validate(Objects.requireNonNull(value));
+    if (this.value.equals(validated)) {
+      return false;
+    }
+    this.value = validated;
     this.changed(server);
+    return true;
   }
 
   @Override
   @Contract(mutates = "this")
   protected void setFromArgument(final CommandContext<ServerCommandSource> context, final String name) {
-    this.value = StringArgumentType.getString(context, name);
+    try {
+      this.value = this.validate(StringArgumentType.getString(context, name));
+    } catch (final IllegalArgumentException e) {
+      throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+    }
   }
 
   @Override
   @Contract(mutates = "this")
   protected void deserialize(final String string) {
-    this.value = string;
+    try {
+      this.value = this.validate(string);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.warn("Rejected string {} {}", string, e.getMessage());
+    }
   }
 
   @Override
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+
+/**
+ * A change callback that is held weakly by its owner. The owner is passed to
+ * the callback on each change rather than captured by it, so that the callback
+ * does not prevent the owner from being collected
+ *
+ * @param <O> The owner type
+ * @param <T> The rule type
+ * @author Chloe Dawn
+ * @see Rules#observeWeak(RuleKey, Object, WeakRuleCallback)
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface WeakRuleCallback<O, T extends Rule<T>> {
+  /**
+   * Invoked when the observed rule is changed while the owner is reachable
+   *
+   * @param owner The owner of the callback
+   * @param server The server that the rule is bound to
+   * @param rule The rule that was changed
+   */
+  void onChange(final O owner, final MinecraftServer server, final T rule);
+}
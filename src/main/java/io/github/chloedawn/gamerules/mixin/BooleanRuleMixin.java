@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin;
+
+import io.github.chloedawn.gamerules.mixin.access.BooleanRuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules.BooleanRule;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin class for {@link BooleanRule}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(BooleanRule.class)
+abstract class BooleanRuleMixin {
+  @Shadow private boolean value;
+
+  /**
+   * Storage for the value held before the most recent write, exposed through an accessor mixin
+   *
+   * @see BooleanRuleAccessor#getPreviousValue()
+   */
+  @Unique private boolean previousValue;
+
+  /**
+   * Injects into the methods that write the value of this rule before the
+   * write takes place, and captures the value that is about to be replaced
+   *
+   * @param ci The callback information
+   * @see BooleanRule#set(boolean, MinecraftServer)
+   */
+  @Inject(method = { "set", "setFromArgument", "deserialize" }, at = @At("HEAD"))
+  private void capturePreviousValue(final CallbackInfo ci) {
+    this.previousValue = this.value;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin;
+
+import io.github.chloedawn.gamerules.RuleIndex;
+import io.github.chloedawn.gamerules.RulePersistence;
+import io.github.chloedawn.gamerules.RuleSnapshot;
+import io.github.chloedawn.gamerules.RuleVersions;
+import io.github.chloedawn.gamerules.mixin.access.GameRulesAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleKey;
+import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Map;
+
+/**
+ * Mixin class for {@link GameRules}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(GameRules.class)
+abstract class GameRulesMixin {
+  @Shadow @Final private Map<RuleKey<?>, Rule<?>> rules;
+
+  /**
+   * Storage for rule instances indexed by the slot of their key,
+   * exposed through an accessor mixin
+   *
+   * @see GameRulesAccessor#getRulesBySlot()
+   */
+  @Unique private Rule<?>[] rulesBySlot = new Rule<?>[0];
+
+  /**
+   * Storage for the modification count, exposed through an accessor mixin
+   *
+   * @see GameRulesAccessor#getModCount()
+   */
+  @Unique private volatile long modCount;
+
+  /**
+   * Storage for the most recently captured snapshot, exposed through an accessor mixin
+   *
+   * @see GameRulesAccessor#getSnapshot()
+   */
+  @Unique private volatile @Nullable RuleSnapshot snapshot;
+
+  /**
+   * Storage for the thread that publishes snapshots, exposed through an accessor mixin
+   *
+   * @see GameRulesAccessor#getOwner()
+   */
+  @Unique private volatile @Nullable Thread owner;
+
+  /**
+   * Injects into {@link GameRules#register(String, RuleType)} after the rule type
+   * has been registered, and indexes the returned key by its name
+   *
+   * @param name The name of the rule type
+   * @param type The rule type that was registered
+   * @param cir The callback information containing the new rule key
+   * @see RuleIndex#add(RuleKey)
+   */
+  @Inject(method = "register", at = @At("RETURN"))
+  private static <T extends Rule<T>> void indexRuleKey(final String name, final RuleType<T> type, final CallbackInfoReturnable<RuleKey<T>> cir) {
+    RuleIndex.add(cir.getReturnValue());
+  }
+
+  /**
+   * Injects into the constructor after the rule instances have been created, copies
+   * them into an array indexed by the slot of their key, and binds them to this instance
+   *
+   * @param ci The callback information
+   */
+  @Inject(method = "<init>", at = @At("RETURN"))
+  private void indexRules(final CallbackInfo ci) {
+    final GameRules self = (GameRules) (Object) this;
+    final Rule<?>[] rulesBySlot = new Rule<?>[RuleIndex.size()];
+    this.rules.forEach((key, rule) -> {
+      rulesBySlot[RuleIndex.slot(key)] = rule;
+      ((RuleAccessor) rule).setOwner(self);
+    });
+    this.rulesBySlot = rulesBySlot;
+  }
+
+  /**
+   * Injects into {@link GameRules#toNbt()} before any rule values have been written, and writes
+   * them instead if typed or sparse persistence is enabled, which vanilla cannot write
+   *
+   * @param cir The callback information to return the written tag through
+   * @see RulePersistence#write(Map)
+   */
+  @Inject(method = "toNbt", at = @At("HEAD"), cancellable = true)
+  private void writeRules(final CallbackInfoReturnable<CompoundTag> cir) {
+    if (RulePersistence.replacesWrite()) {
+      cir.setReturnValue(RulePersistence.write(this.rules));
+    }
+  }
+
+  /**
+   * Redirects the call to {@link Rule#serialize()} made for each rule by the lambda in
+   * {@link GameRules#toNbt()}, reusing the string of rules that have not changed since
+   * they were last written. The lambda captures no instance, so it is targeted by wildcard
+   *
+   * @param rule The rule being written
+   * @return The serialized value of the rule
+   * @see RulePersistence#serialize(Rule)
+   */
+  @Redirect(method = "*", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/GameRules$Rule;serialize()Ljava/lang/String;"), require = 1)
+  private static String serializeCached(final Rule<?> rule) {
+    return RulePersistence.serialize(rule);
+  }
+
+  /**
+   * Injects into {@link GameRules#load(CompoundTag)} before any rule values have been read. If
+   * the tag holds typed values, which vanilla would read as empty strings, the rules are read
+   * from either typed or string tags instead, and this instance and all of its rules are marked
+   * as modified. Tags holding only strings are read by vanilla
+   *
+   * @param tag The tag to read from
+   * @param ci The callback information
+   * @see RulePersistence#read(Map, CompoundTag)
+   * @see RuleVersions#loaded(GameRules)
+   */
+  @Inject(method = "load", at = @At("HEAD"), cancellable = true)
+  private void readTyped(final CompoundTag tag, final CallbackInfo ci) {
+    if (RulePersistence.isTyped(this.rules, tag)) {
+      RulePersistence.read(this.rules, tag);
+      RuleVersions.loaded((GameRules) (Object) this);
+      ci.cancel();
+    }
+  }
+
+  /**
+   * Injects into {@link GameRules#load(CompoundTag)} after vanilla has read the rule values,
+   * resets rules absent from the tag to their initial value, and marks this instance and all
+   * of its rules as modified
+   *
+   * @param tag The tag that was read from
+   * @param ci The callback information
+   * @see RulePersistence#readAbsent(Map, CompoundTag)
+   * @see RuleVersions#loaded(GameRules)
+   */
+  @Inject(method = "load", at = @At("TAIL"))
+  private void readAbsent(final CompoundTag tag, final CallbackInfo ci) {
+    RulePersistence.readAbsent(this.rules, tag);
+    RuleVersions.loaded((GameRules) (Object) this);
+  }
+}
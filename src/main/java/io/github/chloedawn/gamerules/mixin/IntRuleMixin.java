@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin;
+
+import com.mojang.brigadier.context.CommandContext;
+import io.github.chloedawn.gamerules.IntRuleValidator;
+import io.github.chloedawn.gamerules.RuleValidation;
+import io.github.chloedawn.gamerules.mixin.access.IntRuleAccessor;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandException;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
+import net.minecraft.world.GameRules.IntRule;
+import net.minecraft.world.GameRules.RuleType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Mixin class for {@link IntRule}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(IntRule.class)
+abstract class IntRuleMixin {
+  @Unique private static final Logger LOGGER = LogManager.getLogger();
+
+  @Shadow private int value;
+
+  /**
+   * Storage for the value held before the most recent write, exposed through an accessor mixin
+   *
+   * @see IntRuleAccessor#getPreviousValue()
+   */
+  @Unique private int previousValue;
+
+  /**
+   * Injects into the primary {@link RuleType<IntRule>} factory method, which every int rule
+   * type is created through, and binds the validator chain of the created rule type
+   *
+   * @param initialValue The initial int value of rule instances
+   * @param changeCallback The change callback for rule instances
+   * @param cir The callback information
+   * @see IntRuleValidator
+   */
+  @Inject(method = "create(ILjava/util/function/BiConsumer;)Lnet/minecraft/world/GameRules$RuleType;", at = @At("RETURN"))
+  private static void bindValidation(final int initialValue, final BiConsumer<MinecraftServer, IntRule> changeCallback, final CallbackInfoReturnable<RuleType<IntRule>> cir) {
+    RuleValidation.bind(cir.getReturnValue(), IntRuleValidator.class, IntRuleValidator::andThen);
+  }
+
+  /**
+   * Injects into the methods that write the value of this rule before the
+   * write takes place, and captures the value that is about to be replaced
+   *
+   * @param ci The callback information
+   */
+  @Inject(method = { "setFromArgument", "deserialize" }, at = @At("HEAD"))
+  private void capturePreviousValue(final CallbackInfo ci) {
+    this.previousValue = this.value;
+  }
+
+  /**
+   * Injects into {@link IntRule#setFromArgument} after the value has been written and
+   * before change callbacks are called, and applies the validators of the rule type,
+   * restoring the previous value and failing the command if the value is rejected
+   *
+   * @param context The command context
+   * @param name The name of the value argument
+   * @param ci The callback information
+   * @see IntRuleValidator
+   */
+  @Inject(method = "setFromArgument", at = @At("RETURN"))
+  private void validateArgument(final CommandContext<ServerCommandSource> context, final String name, final CallbackInfo ci) {
+    final @Nullable IntRuleValidator validator = this.validator();
+    if (validator != null) {
+      try {
+        this.value = validator.validate(this.value);
+      } catch (final IllegalArgumentException e) {
+        this.value = this.previousValue;
+        throw new CommandException(new LiteralText(String.valueOf(e.getMessage())));
+      }
+    }
+  }
+
+  /**
+   * Injects into {@link IntRule#deserialize} after the value has been written, and applies the
+   * validators of the rule type, restoring the previous value if the value is rejected
+   *
+   * @param string The serialized value
+   * @param ci The callback information
+   * @see IntRuleValidator
+   */
+  @Inject(method = "deserialize", at = @At("RETURN"))
+  private void validateDeserialized(final String string, final CallbackInfo ci) {
+    final @Nullable IntRuleValidator validator = this.validator();
+    if (validator != null) {
+      try {
+        this.value = validator.validate(this.value);
+      } catch (final IllegalArgumentException e) {
+        this.value = this.previousValue;
+        LOGGER.warn("Rejected int {} {}", string, e.getMessage());
+      }
+    }
+  }
+
+  @Unique
+  private @Nullable IntRuleValidator validator() {
+    return RuleValidation.validator(((RuleAccessor) (Object) this).getType(), IntRuleValidator.class);
+  }
+}
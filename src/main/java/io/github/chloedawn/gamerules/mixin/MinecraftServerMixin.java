@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin;
+
+import io.github.chloedawn.gamerules.RuleTicks;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Mixin class for {@link MinecraftServer}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(MinecraftServer.class)
+abstract class MinecraftServerMixin {
+  /**
+   * Injects into {@link MinecraftServer#tick(BooleanSupplier)} after the tick
+   * has completed, and dispatches per-tick rule bookkeeping
+   *
+   * @param shouldKeepTicking The supplier determining whether the tick may continue
+   * @param ci The callback information
+   * @see RuleTicks#tick(MinecraftServer)
+   */
+  @Inject(method = "tick", at = @At("TAIL"))
+  private void tickRules(final BooleanSupplier shouldKeepTicking, final CallbackInfo ci) {
+    RuleTicks.tick((MinecraftServer) (Object) this);
+  }
+
+  /**
+   * Injects into {@link MinecraftServer#shutdown()} after the server has stopped,
+   * and discards per-tick rule bookkeeping bound to it
+   *
+   * @param ci The callback information
+   * @see RuleTicks#stop()
+   */
+  @Inject(method = "shutdown", at = @At("TAIL"))
+  private void stopRules(final CallbackInfo ci) {
+    RuleTicks.stop();
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin;
+
+import io.github.chloedawn.gamerules.mixin.access.RuleKeyAccessor;
+import net.minecraft.world.GameRules.RuleKey;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Mixin class for {@link RuleKey}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(RuleKey.class)
+abstract class RuleKeyMixin {
+  /**
+   * Storage for the dense slot index exposed through an accessor mixin
+   *
+   * @see RuleKeyAccessor#getSlot()
+   */
+  @Unique private int slot = -1;
+}
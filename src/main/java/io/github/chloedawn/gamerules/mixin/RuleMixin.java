@@ -17,12 +17,19 @@
 package io.github.chloedawn.gamerules.mixin;
 
 import io.github.chloedawn.gamerules.RuleChangeCallbacks;
+import io.github.chloedawn.gamerules.RuleVersions;
+import io.github.chloedawn.gamerules.mixin.access.RuleAccessor;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.At.Shift;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -37,9 +44,50 @@
 abstract class RuleMixin<T extends Rule<T>> {
   @Shadow @Final private RuleType<T> type;
 
+  /**
+   * Storage for the game rules instance that created this rule, exposed through an accessor mixin
+   *
+   * @see RuleAccessor#getOwner()
+   */
+  @Unique private @Nullable GameRules owner;
+
+  /**
+   * Storage for the modification count, exposed through an accessor mixin
+   *
+   * @see RuleAccessor#getModCount()
+   */
+  @Unique private volatile long modCount;
+
+  /**
+   * Storage for the string tag this rule was last written as, exposed through an accessor mixin
+   *
+   * @see RuleAccessor#getStringTag()
+   */
+  @Unique private @Nullable StringTag stringTag;
+
+  /**
+   * Storage for the typed tag this rule was last written as, exposed through an accessor mixin
+   *
+   * @see RuleAccessor#getTypedTag()
+   */
+  @Unique private @Nullable Tag typedTag;
+
   @Shadow
   protected abstract T getThis();
 
+  /**
+   * Injects into {@link Rule#changed(MinecraftServer)} before anything else,
+   * and marks this rule as modified, even if the given server is null
+   *
+   * @param server The server that this rule is bound to
+   * @param ci The callback information
+   * @see RuleVersions#modified(Rule)
+   */
+  @Inject(method = "changed", at = @At("HEAD"))
+  private void markModified(final @Nullable MinecraftServer server, final CallbackInfo ci) {
+    RuleVersions.modified(this.getThis());
+  }
+
   /**
    * Injects into {@link Rule#changed(MinecraftServer)} after the server has been checked
    * non-null and the primary callback has been called, and calls additional callbacks
@@ -16,12 +16,20 @@
 
 package io.github.chloedawn.gamerules.mixin;
 
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
 import io.github.chloedawn.gamerules.RuleChangeCallbacks;
+import io.github.chloedawn.gamerules.RuleTypeMetadata;
 import io.github.chloedawn.gamerules.mixin.access.RuleTypeAccessor;
+import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
  * Mixin class for {@link RuleType}
@@ -36,4 +44,25 @@
    * @see RuleTypeAccessor#getChangeCallbacks()
    */
   @Unique private final RuleChangeCallbacks<T> changeCallbacks = new RuleChangeCallbacks<>();
+
+  /**
+   * Storage for the validator chain, suggestions and initial value exposed through an accessor mixin
+   *
+   * @see RuleTypeAccessor#getMetadata()
+   */
+  @Unique private final RuleTypeMetadata metadata = new RuleTypeMetadata();
+
+  /**
+   * Attaches the suggestion provider of this rule type, if any, to its command argument.
+   * The provider is resolved on the server, so the argument type itself remains vanilla
+   *
+   * @see RuleTypeMetadata#suggestions()
+   */
+  @Inject(method = "argument", at = @At("RETURN"))
+  private void suggestValues(final String name, final CallbackInfoReturnable<RequiredArgumentBuilder<ServerCommandSource, ?>> cir) {
+    final @Nullable SuggestionProvider<ServerCommandSource> suggestions = this.metadata.suggestions();
+    if (suggestions != null) {
+      cir.getReturnValue().suggests(suggestions);
+    }
+  }
 }
@@ -21,6 +21,7 @@
 import net.minecraft.world.GameRules.RuleType;
 import org.jetbrains.annotations.Contract;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
 import java.util.function.BiConsumer;
@@ -45,4 +46,22 @@ static RuleType<BooleanRule> callCreate(final boolean initialValue, final BiCons
     //noinspection Contract
     throw new AssertionError();
   }
+
+  /**
+   * Gets the value that {@code this} {@link BooleanRule} held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  boolean getPreviousValue();
+
+  /**
+   * Sets the value that {@code this} {@link BooleanRule} held before its most recent write
+   *
+   * @param value The previous value
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setPreviousValue(final boolean value);
 }
@@ -16,10 +16,12 @@
 
 package io.github.chloedawn.gamerules.mixin.access;
 
+import io.github.chloedawn.gamerules.RuleSnapshot;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.GameRules.Rule;
 import net.minecraft.world.GameRules.RuleKey;
 import net.minecraft.world.GameRules.RuleType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.Contract;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
@@ -63,4 +65,70 @@ static <T extends Rule<T>> RuleKey<T> callRegister(final String name, final Rule
     //noinspection Contract
     throw new AssertionError();
   }
+
+  /**
+   * Gets the rule instances of this game rules instance, indexed by
+   * the slot of their key. The array returned by this method is a pure
+   * reference, and should be handled with caution
+   *
+   * @return The rule instances by slot
+   * @see io.github.chloedawn.gamerules.RuleIndex#slot(RuleKey)
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  Rule<?>[] getRulesBySlot();
+
+  /**
+   * Gets the number of modifications made to this game rules instance
+   *
+   * @return The modification count
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  long getModCount();
+
+  /**
+   * Sets the number of modifications made to this game rules instance
+   *
+   * @param modCount The modification count
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setModCount(final long modCount);
+
+  /**
+   * Gets the most recently captured snapshot of this game rules instance
+   *
+   * @return The snapshot, or {@code null} if none has been captured
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  @Nullable RuleSnapshot getSnapshot();
+
+  /**
+   * Sets the most recently captured snapshot of this game rules instance
+   *
+   * @param snapshot The snapshot
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setSnapshot(final RuleSnapshot snapshot);
+
+  /**
+   * Gets the thread that publishes snapshots of this game rules instance
+   *
+   * @return The owning thread, or {@code null} if the rules have not yet been ticked
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  @Nullable Thread getOwner();
+
+  /**
+   * Sets the thread that publishes snapshots of this game rules instance
+   *
+   * @param owner The owning thread
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setOwner(final Thread owner);
 }
@@ -56,4 +56,22 @@ static RuleType<IntRule> callCreate(final int initialValue, final BiConsumer<Min
   @Accessor
   @Contract(mutates = "this")
   void setValue(final int value);
+
+  /**
+   * Gets the value that {@code this} {@link IntRule} held before its most recent write
+   *
+   * @return The previous value
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  int getPreviousValue();
+
+  /**
+   * Sets the value that {@code this} {@link IntRule} held before its most recent write
+   *
+   * @param value The previous value
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setPreviousValue(final int value);
 }
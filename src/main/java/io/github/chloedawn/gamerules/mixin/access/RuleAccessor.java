@@ -1,9 +1,15 @@
 package io.github.chloedawn.gamerules.mixin.access;
 
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.GameRules.Rule;
+import net.minecraft.world.GameRules.RuleType;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
 /**
@@ -23,4 +29,105 @@ public interface RuleAccessor {
    */
   @Invoker
   void invokeChanged(final @Nullable MinecraftServer server);
+
+  /**
+   * Invokes the method that writes the value of {@code this} rule as a string
+   *
+   * @return The serialized value
+   * @see Rule#serialize()
+   */
+  @Invoker
+  @Contract(pure = true)
+  String invokeSerialize();
+
+  /**
+   * Invokes the method that reads the value of {@code this} rule from a string
+   *
+   * @param string The serialized value
+   * @see Rule#deserialize(String)
+   */
+  @Invoker
+  @Contract(mutates = "this")
+  void invokeDeserialize(final String string);
+
+  /**
+   * Gets the type of {@code this} rule
+   *
+   * @return The rule type
+   */
+  @Accessor
+  @Contract(pure = true)
+  RuleType<?> getType();
+
+  /**
+   * Gets the game rules instance that created {@code this} rule
+   *
+   * @return The owning game rules, or {@code null} if the rule is not owned
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  @Nullable GameRules getOwner();
+
+  /**
+   * Sets the game rules instance that created {@code this} rule
+   *
+   * @param owner The owning game rules
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setOwner(final GameRules owner);
+
+  /**
+   * Gets the number of modifications made to {@code this} rule
+   *
+   * @return The modification count
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  long getModCount();
+
+  /**
+   * Sets the number of modifications made to {@code this} rule
+   *
+   * @param modCount The modification count
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setModCount(final long modCount);
+
+  /**
+   * Gets the string tag {@code this} rule was last written as
+   *
+   * @return The cached string tag, or {@code null} if the rule has changed since it was last written
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  @Nullable StringTag getStringTag();
+
+  /**
+   * Sets the string tag {@code this} rule was last written as
+   *
+   * @param tag The string tag, or {@code null} to invalidate it
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setStringTag(final @Nullable StringTag tag);
+
+  /**
+   * Gets the typed tag {@code this} rule was last written as
+   *
+   * @return The cached typed tag, or {@code null} if the rule has changed since it was last written
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  @Nullable Tag getTypedTag();
+
+  /**
+   * Sets the typed tag {@code this} rule was last written as
+   *
+   * @param tag The typed tag, or {@code null} to invalidate it
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setTypedTag(final @Nullable Tag tag);
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2019 Chloe Dawn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.chloedawn.gamerules.mixin.access;
+
+import net.minecraft.world.GameRules.RuleKey;
+import org.jetbrains.annotations.Contract;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor interface for {@link RuleKey}
+ *
+ * @author Chloe Dawn
+ */
+@Mixin(RuleKey.class)
+public interface RuleKeyAccessor {
+  /**
+   * Gets the dense slot index of this rule key, assigned in registration order
+   *
+   * @return This rule key's slot, or {@code -1} if unassigned
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  int getSlot();
+
+  /**
+   * Sets the dense slot index of this rule key
+   *
+   * @param slot The slot index
+   */
+  @Accessor(remap = false)
+  @Contract(mutates = "this")
+  void setSlot(final int slot);
+}
@@ -18,6 +18,7 @@
 
 import com.mojang.brigadier.arguments.ArgumentType;
 import io.github.chloedawn.gamerules.RuleChangeCallbacks;
+import io.github.chloedawn.gamerules.RuleTypeMetadata;
 import io.github.chloedawn.gamerules.Rules;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.GameRules.Rule;
@@ -68,4 +69,14 @@ static <T extends Rule<T>> RuleType<T> newRuleType(
   @Contract(pure = true)
   @Accessor(remap = false)
   RuleChangeCallbacks<T> getChangeCallbacks();
+
+  /**
+   * Gets the metadata of this rule type
+   *
+   * @return This rule type's metadata
+   * @see RuleTypeMetadata#of(RuleType)
+   */
+  @Contract(pure = true)
+  @Accessor(remap = false)
+  RuleTypeMetadata getMetadata();
 }